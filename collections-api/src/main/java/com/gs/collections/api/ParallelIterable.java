@@ -24,10 +24,16 @@ import com.gs.collections.api.bag.sorted.MutableSortedBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.DoubleDoubleToDoubleFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.DoubleObjectToDoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.IntIntToIntFunction;
+import com.gs.collections.api.block.function.primitive.IntObjectToIntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.LongLongToLongFunction;
+import com.gs.collections.api.block.function.primitive.LongObjectToLongFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
@@ -35,10 +41,18 @@ import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableIntObjectMap;
+import com.gs.collections.api.map.primitive.MutableLongObjectMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.primitive.DoubleSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.IntSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.LongSummaryStatistics;
 
 /**
  * A ParallelIterable is RichIterable which will defer evaluation for certain methods like select, reject, collect, etc.
@@ -231,6 +245,49 @@ public interface ParallelIterable<T>
      */
     double sumOfDouble(DoubleFunction<? super T> function);
 
+    /**
+     * Returns the count, sum, minimum, maximum and average of the int values that function returns for the elements of
+     * the iterable, gathered in a single parallel pass over the batches.
+     *
+     * @since 7.0
+     */
+    IntSummaryStatistics summarizeInt(IntFunction<? super T> function);
+
+    /**
+     * Returns the count, sum, minimum, maximum and average of the long values that function returns for the elements of
+     * the iterable, gathered in a single parallel pass over the batches.
+     *
+     * @since 7.0
+     */
+    LongSummaryStatistics summarizeLong(LongFunction<? super T> function);
+
+    /**
+     * Returns the count, sum, minimum, maximum and average of the double values that function returns for the elements of
+     * the iterable, gathered in a single parallel pass over the batches. It uses Kahan summation algorithm to reduce
+     * numerical error.
+     *
+     * @since 7.0
+     */
+    DoubleSummaryStatistics summarizeDouble(DoubleFunction<? super T> function);
+
+    /**
+     * Groups the elements by the int value that function returns for them, without boxing the keys. Each batch is
+     * grouped separately and the batch results are merged. For ordered iterables the elements of each group are kept
+     * in iteration order.
+     *
+     * @since 7.0
+     */
+    MutableIntObjectMap<MutableList<T>> groupByInt(IntFunction<? super T> function);
+
+    /**
+     * Groups the elements by the long value that function returns for them, without boxing the keys. Each batch is
+     * grouped separately and the batch results are merged. For ordered iterables the elements of each group are kept
+     * in iteration order.
+     *
+     * @since 7.0
+     */
+    MutableLongObjectMap<MutableList<T>> groupByLong(LongFunction<? super T> function);
+
     String makeString();
 
     String makeString(String separator);
@@ -252,4 +309,31 @@ public interface ParallelIterable<T>
     <K, V> MapIterable<K, V> aggregateInPlaceBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Procedure2<? super V, ? super T> mutatingAggregator);
 
     <K, V> MapIterable<K, V> aggregateBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Function2<? super V, ? super T, ? extends V> nonMutatingAggregator);
+
+    /**
+     * Applies an int aggregator over each batch, grouping the results into a map by the groupBy function, and then
+     * merges the per-batch maps. Within a batch each group starts at zeroValue and is folded with the aggregator.
+     * When two batches share a group, the combiner merges their values, so it must agree with the aggregator (e.g.
+     * Math::max for a max aggregator, or addition for a sum or a count). For ordered iterables the batches are merged
+     * in iteration order.
+     *
+     * @since 7.0
+     */
+    <K> ObjectIntMap<K> aggregateIntBy(Function<? super T, ? extends K> groupBy, int zeroValue, IntObjectToIntFunction<? super T> aggregator, IntIntToIntFunction combiner);
+
+    /**
+     * Same as {@link #aggregateIntBy(Function, int, IntObjectToIntFunction, IntIntToIntFunction)}, but with long
+     * aggregate values.
+     *
+     * @since 7.0
+     */
+    <K> ObjectLongMap<K> aggregateLongBy(Function<? super T, ? extends K> groupBy, long zeroValue, LongObjectToLongFunction<? super T> aggregator, LongLongToLongFunction combiner);
+
+    /**
+     * Same as {@link #aggregateIntBy(Function, int, IntObjectToIntFunction, IntIntToIntFunction)}, but with double
+     * aggregate values.
+     *
+     * @since 7.0
+     */
+    <K> ObjectDoubleMap<K> aggregateDoubleBy(Function<? super T, ? extends K> groupBy, double zeroValue, DoubleObjectToDoubleFunction<? super T> aggregator, DoubleDoubleToDoubleFunction combiner);
 }
@@ -52,7 +52,10 @@ import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableIntObjectMap;
+import com.gs.collections.api.map.primitive.MutableLongObjectMap;
 import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.Multimap;
@@ -61,6 +64,9 @@ import com.gs.collections.api.ordered.OrderedIterable;
 import com.gs.collections.api.partition.PartitionIterable;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.primitive.DoubleSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.IntSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.LongSummaryStatistics;
 import com.gs.collections.api.tuple.Pair;
 
 /**
@@ -1562,6 +1568,66 @@ public interface
      */
     double sumOfDouble(DoubleFunction<? super T> function);
 
+    /**
+     * Returns the count, sum, minimum, maximum and average of the int values that function returns for the elements of
+     * the iterable, all gathered in a single pass.
+     *
+     * @since 7.0
+     */
+    IntSummaryStatistics summarizeInt(IntFunction<? super T> function);
+
+    /**
+     * Returns the count, sum, minimum, maximum and average of the long values that function returns for the elements of
+     * the iterable, all gathered in a single pass.
+     *
+     * @since 7.0
+     */
+    LongSummaryStatistics summarizeLong(LongFunction<? super T> function);
+
+    /**
+     * Returns the count, sum, minimum, maximum and average of the double values that function returns for the elements of
+     * the iterable, all gathered in a single pass. It uses Kahan summation algorithm to reduce numerical error.
+     *
+     * @since 7.0
+     */
+    DoubleSummaryStatistics summarizeDouble(DoubleFunction<? super T> function);
+
+    /**
+     * Same as {@link #flatCollect(Function, Collection)}, except that the function returns an {@link IntIterable} and
+     * its int values are added to the target primitive collection without boxing.
+     *
+     * @since 7.0
+     */
+    <R extends MutableIntCollection> R flatCollectInt(Function<? super T, ? extends IntIterable> function, R target);
+
+    /**
+     * Same as {@link #flatCollect(Function, Collection)}, except that the function returns a {@link LongIterable} and
+     * its long values are added to the target primitive collection without boxing.
+     *
+     * @since 7.0
+     */
+    <R extends MutableLongCollection> R flatCollectLong(Function<? super T, ? extends LongIterable> function, R target);
+
+    /**
+     * Groups the elements by the int value that function returns for them. Unlike {@link #groupBy(Function)} the keys
+     * are never boxed. The elements of each group are kept in iteration order.
+     * <p>
+     * <pre>e.g.
+     * MutableIntObjectMap&lt;MutableList&lt;Person&gt;&gt; peopleByAge = people.groupByInt(person -> person.getAge());
+     * </pre>
+     *
+     * @since 7.0
+     */
+    MutableIntObjectMap<MutableList<T>> groupByInt(IntFunction<? super T> function);
+
+    /**
+     * Groups the elements by the long value that function returns for them. Unlike {@link #groupBy(Function)} the keys
+     * are never boxed. The elements of each group are kept in iteration order.
+     *
+     * @since 7.0
+     */
+    MutableLongObjectMap<MutableList<T>> groupByLong(LongFunction<? super T> function);
+
     /**
      * Groups and sums the values using the two specified functions.
      *
@@ -1590,6 +1656,33 @@ public interface
      */
     <V> ObjectDoubleMap<V> sumByDouble(Function<T, V> groupBy, DoubleFunction<? super T> function);
 
+    /**
+     * Applies an int aggregator over the iterable, grouping the results into a map by the groupBy function. Each group
+     * starts at zeroValue, and the aggregator returns the group's new value from its current value and the next
+     * element. Unlike {@link #aggregateBy(Function, Function0, Function2)} the aggregate values are never boxed.
+     * <p>
+     * <pre>e.g.
+     * ObjectIntMap&lt;String&gt; maxAgeByCity = people.aggregateIntBy(Person::getCity, 0, (max, person) -> Math.max(max, person.getAge()));
+     * </pre>
+     *
+     * @since 7.0
+     */
+    <K> ObjectIntMap<K> aggregateIntBy(Function<? super T, ? extends K> groupBy, int zeroValue, IntObjectToIntFunction<? super T> aggregator);
+
+    /**
+     * Same as {@link #aggregateIntBy(Function, int, IntObjectToIntFunction)}, but with long aggregate values.
+     *
+     * @since 7.0
+     */
+    <K> ObjectLongMap<K> aggregateLongBy(Function<? super T, ? extends K> groupBy, long zeroValue, LongObjectToLongFunction<? super T> aggregator);
+
+    /**
+     * Same as {@link #aggregateIntBy(Function, int, IntObjectToIntFunction)}, but with double aggregate values.
+     *
+     * @since 7.0
+     */
+    <K> ObjectDoubleMap<K> aggregateDoubleBy(Function<? super T, ? extends K> groupBy, double zeroValue, DoubleObjectToDoubleFunction<? super T> aggregator);
+
     /**
      * Returns a string representation of this collection by delegating to {@link #makeString(String)} and defaulting
      * the separator parameter to the characters <tt>", "</tt> (comma and space).
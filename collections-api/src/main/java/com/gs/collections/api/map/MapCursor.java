@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.api.map;
+
+/**
+ * A MapCursor walks the entries of a map in place, without creating an entry object per mapping. A new cursor is
+ * positioned before the first entry; each call to {@link #advance()} moves it to the next one.
+ * <p>
+ * <pre>e.g.
+ * MapCursor&lt;String, Integer&gt; cursor = map.cursor();
+ * while (cursor.advance())
+ * {
+ *     cursor.setValue(cursor.value() + 1);
+ * }
+ * </pre>
+ * <p>
+ * Changing the map other than through {@link #setValue(Object)} while a cursor is in use leaves the cursor in an
+ * undefined state.
+ *
+ * @since 7.0
+ */
+public interface MapCursor<K, V>
+{
+    /**
+     * Moves the cursor to the next entry.
+     *
+     * @return true if the cursor is positioned on an entry, false if there are no more entries.
+     */
+    boolean advance();
+
+    /**
+     * Returns the key of the current entry.
+     *
+     * @throws IllegalStateException if the last call to {@link #advance()} did not return true.
+     */
+    K key();
+
+    /**
+     * Returns the value of the current entry.
+     *
+     * @throws IllegalStateException if the last call to {@link #advance()} did not return true.
+     */
+    V value();
+
+    /**
+     * Replaces the value of the current entry, writing through to the map.
+     *
+     * @throws IllegalStateException if the last call to {@link #advance()} did not return true.
+     */
+    void setValue(V value);
+}
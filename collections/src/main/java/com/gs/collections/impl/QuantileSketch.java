@@ -0,0 +1,309 @@
+/*
+ * Copyright 2013 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl;
+
+import java.io.Serializable;
+
+import com.gs.collections.api.block.procedure.primitive.ByteProcedure;
+import com.gs.collections.api.block.procedure.primitive.CharProcedure;
+import com.gs.collections.api.block.procedure.primitive.DoubleProcedure;
+import com.gs.collections.api.block.procedure.primitive.FloatProcedure;
+import com.gs.collections.api.block.procedure.primitive.IntProcedure;
+import com.gs.collections.api.block.procedure.primitive.LongProcedure;
+import com.gs.collections.api.block.procedure.primitive.ShortProcedure;
+
+/**
+ * A QuantileSketch estimates quantiles of a stream of numbers in a single pass and in memory that does not grow with
+ * the number of values added. Values are counted in logarithmically sized buckets, so every estimated quantile is
+ * within the configured relative accuracy of a value that is actually at that rank. Memory grows with the logarithm
+ * of the ratio between the largest and smallest magnitudes added, divided by the relative accuracy.
+ * <p>
+ * Sketches built over different parts of the data can be merged, which makes them suitable for parallel evaluation.
+ * A QuantileSketch is a procedure for every numeric primitive type, so it can be filled from any primitive iterable,
+ * including lazy ones, with forEach. It is not thread-safe.
+ *
+ * @since 7.0.
+ */
+public final class QuantileSketch
+        implements ByteProcedure, ShortProcedure, CharProcedure, IntProcedure, LongProcedure, FloatProcedure, DoubleProcedure
+{
+    private static final long serialVersionUID = 1L;
+
+    private final double relativeAccuracy;
+    private final double logGamma;
+    private final double bucketMidpointFactor;
+    private final Buckets positiveBuckets = new Buckets();
+    private final Buckets negativeBuckets = new Buckets();
+    private long zeroCount;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public QuantileSketch(double relativeAccuracy)
+    {
+        if (!(relativeAccuracy > 0.0 && relativeAccuracy < 1.0))
+        {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1 exclusive but was " + relativeAccuracy);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        double gamma = (1.0 + relativeAccuracy) / (1.0 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.bucketMidpointFactor = 2.0 / (1.0 + gamma);
+    }
+
+    public void value(byte each)
+    {
+        this.add((double) each);
+    }
+
+    public void value(short each)
+    {
+        this.add((double) each);
+    }
+
+    public void value(char each)
+    {
+        this.add((double) each);
+    }
+
+    public void value(int each)
+    {
+        this.add((double) each);
+    }
+
+    public void value(long each)
+    {
+        this.add((double) each);
+    }
+
+    public void value(float each)
+    {
+        this.add((double) each);
+    }
+
+    public void value(double each)
+    {
+        this.add(each);
+    }
+
+    public void add(double value)
+    {
+        if (Double.isNaN(value) || Double.isInfinite(value))
+        {
+            throw new IllegalArgumentException("Cannot add " + value + " to a QuantileSketch");
+        }
+        if (value >= Double.MIN_NORMAL)
+        {
+            this.positiveBuckets.increment(this.bucketIndex(value), 1L);
+        }
+        else if (value <= -Double.MIN_NORMAL)
+        {
+            this.negativeBuckets.increment(this.bucketIndex(-value), 1L);
+        }
+        else
+        {
+            this.zeroCount++;
+        }
+        this.count++;
+        this.min = Math.min(this.min, value);
+        this.max = Math.max(this.max, value);
+    }
+
+    /**
+     * Adds the counts of the other sketch to this one. Both sketches must have the same relative accuracy.
+     */
+    public QuantileSketch merge(QuantileSketch other)
+    {
+        if (Double.compare(this.relativeAccuracy, other.relativeAccuracy) != 0)
+        {
+            throw new IllegalArgumentException("Cannot merge a QuantileSketch with relative accuracy " + other.relativeAccuracy + " into one with relative accuracy " + this.relativeAccuracy);
+        }
+        this.positiveBuckets.addAll(other.positiveBuckets);
+        this.negativeBuckets.addAll(other.negativeBuckets);
+        this.zeroCount += other.zeroCount;
+        this.count += other.count;
+        this.min = Math.min(this.min, other.min);
+        this.max = Math.max(this.max, other.max);
+        return this;
+    }
+
+    public double getRelativeAccuracy()
+    {
+        return this.relativeAccuracy;
+    }
+
+    public long getCount()
+    {
+        return this.count;
+    }
+
+    public boolean isEmpty()
+    {
+        return this.count == 0L;
+    }
+
+    /**
+     * Returns an estimate of the given quantile, between 0 and 1 inclusive, of the values added. The quantiles 0 and
+     * 1 are the exact minimum and maximum.
+     *
+     * @throws ArithmeticException if no values have been added
+     */
+    public double quantile(double quantile)
+    {
+        if (!(quantile >= 0.0 && quantile <= 1.0))
+        {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1 but was " + quantile);
+        }
+        if (this.count == 0L)
+        {
+            throw new ArithmeticException();
+        }
+        if (quantile == 0.0)
+        {
+            return this.min;
+        }
+        if (quantile == 1.0)
+        {
+            return this.max;
+        }
+
+        long rank = (long) (quantile * (double) (this.count - 1L));
+        double estimate;
+        if (rank < this.negativeBuckets.total)
+        {
+            estimate = -this.bucketValue(this.negativeBuckets.indexOfRankDescending(rank));
+        }
+        else if (rank < this.negativeBuckets.total + this.zeroCount)
+        {
+            estimate = 0.0;
+        }
+        else
+        {
+            estimate = this.bucketValue(this.positiveBuckets.indexOfRankAscending(rank - this.negativeBuckets.total - this.zeroCount));
+        }
+        return Math.max(this.min, Math.min(this.max, estimate));
+    }
+
+    public double[] quantiles(double... quantiles)
+    {
+        double[] result = new double[quantiles.length];
+        for (int i = 0; i < quantiles.length; i++)
+        {
+            result[i] = this.quantile(quantiles[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "QuantileSketch{relativeAccuracy=" + this.relativeAccuracy + ", count=" + this.count + '}';
+    }
+
+    private int bucketIndex(double magnitude)
+    {
+        return (int) Math.ceil(Math.log(magnitude) / this.logGamma);
+    }
+
+    private double bucketValue(int index)
+    {
+        return Math.exp(index * this.logGamma) * this.bucketMidpointFactor;
+    }
+
+    /**
+     * Counts indexed by bucket, stored densely between the smallest and largest index seen so far.
+     */
+    private static final class Buckets implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+        private static final int INITIAL_CAPACITY = 64;
+
+        private long[] counts;
+        private int offset;
+        private long total;
+
+        private void increment(int index, long amount)
+        {
+            if (this.counts == null)
+            {
+                this.counts = new long[INITIAL_CAPACITY];
+                this.offset = index - INITIAL_CAPACITY / 2;
+            }
+            else if (index < this.offset || index >= this.offset + this.counts.length)
+            {
+                this.grow(index);
+            }
+            this.counts[index - this.offset] += amount;
+            this.total += amount;
+        }
+
+        private void grow(int index)
+        {
+            int newLow = Math.min(this.offset, index);
+            int newHigh = Math.max(this.offset + this.counts.length, index + 1);
+            int newLength = Math.max(this.counts.length << 1, newHigh - newLow);
+            int newOffset = index < this.offset ? newHigh - newLength : newLow;
+            long[] newCounts = new long[newLength];
+            System.arraycopy(this.counts, 0, newCounts, this.offset - newOffset, this.counts.length);
+            this.counts = newCounts;
+            this.offset = newOffset;
+        }
+
+        private void addAll(Buckets other)
+        {
+            if (other.counts == null)
+            {
+                return;
+            }
+            for (int i = 0; i < other.counts.length; i++)
+            {
+                if (other.counts[i] != 0L)
+                {
+                    this.increment(other.offset + i, other.counts[i]);
+                }
+            }
+        }
+
+        private int indexOfRankAscending(long rank)
+        {
+            long cumulative = 0L;
+            for (int i = 0; i < this.counts.length; i++)
+            {
+                cumulative += this.counts[i];
+                if (cumulative > rank)
+                {
+                    return this.offset + i;
+                }
+            }
+            throw new IllegalStateException("Rank " + rank + " is not less than the bucket total " + this.total);
+        }
+
+        private int indexOfRankDescending(long rank)
+        {
+            long cumulative = 0L;
+            for (int i = this.counts.length - 1; i >= 0; i--)
+            {
+                cumulative += this.counts[i];
+                if (cumulative > rank)
+                {
+                    return this.offset + i;
+                }
+            }
+            throw new IllegalStateException("Rank " + rank + " is not less than the bucket total " + this.total);
+        }
+    }
+}
@@ -64,7 +64,10 @@ import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableIntObjectMap;
+import com.gs.collections.api.map.primitive.MutableLongObjectMap;
 import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.Multimap;
@@ -72,6 +75,9 @@ import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.partition.PartitionIterable;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.primitive.DoubleSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.IntSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.LongSummaryStatistics;
 import com.gs.collections.api.tuple.Pair;
 import net.jcip.annotations.GuardedBy;
 
@@ -833,6 +839,62 @@ public class SynchronizedRichIterable<T>
         }
     }
 
+    public IntSummaryStatistics summarizeInt(IntFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.summarizeInt(function);
+        }
+    }
+
+    public LongSummaryStatistics summarizeLong(LongFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.summarizeLong(function);
+        }
+    }
+
+    public DoubleSummaryStatistics summarizeDouble(DoubleFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.summarizeDouble(function);
+        }
+    }
+
+    public <R extends MutableIntCollection> R flatCollectInt(Function<? super T, ? extends IntIterable> function, R target)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.flatCollectInt(function, target);
+        }
+    }
+
+    public <R extends MutableLongCollection> R flatCollectLong(Function<? super T, ? extends LongIterable> function, R target)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.flatCollectLong(function, target);
+        }
+    }
+
+    public MutableIntObjectMap<MutableList<T>> groupByInt(IntFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.groupByInt(function);
+        }
+    }
+
+    public MutableLongObjectMap<MutableList<T>> groupByLong(LongFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.groupByLong(function);
+        }
+    }
+
     public <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function)
     {
         synchronized (this.lock)
@@ -865,6 +927,30 @@ public class SynchronizedRichIterable<T>
         }
     }
 
+    public <V> ObjectIntMap<V> aggregateIntBy(Function<? super T, ? extends V> groupBy, int zeroValue, IntObjectToIntFunction<? super T> aggregator)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.aggregateIntBy(groupBy, zeroValue, aggregator);
+        }
+    }
+
+    public <V> ObjectLongMap<V> aggregateLongBy(Function<? super T, ? extends V> groupBy, long zeroValue, LongObjectToLongFunction<? super T> aggregator)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.aggregateLongBy(groupBy, zeroValue, aggregator);
+        }
+    }
+
+    public <V> ObjectDoubleMap<V> aggregateDoubleBy(Function<? super T, ? extends V> groupBy, double zeroValue, DoubleObjectToDoubleFunction<? super T> aggregator)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.aggregateDoubleBy(groupBy, zeroValue, aggregator);
+        }
+    }
+
     public String makeString()
     {
         synchronized (this.lock)
@@ -0,0 +1,692 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bag.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.bag.Bag;
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.predicate.primitive.IntPredicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.Counter;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.multimap.bag.HashBagMultimap;
+import com.gs.collections.impl.utility.ArrayIterate;
+import com.gs.collections.impl.utility.Iterate;
+import com.gs.collections.impl.utility.LazyIterate;
+
+/**
+ * A ConcurrentHashBag is a thread-safe MutableBag backed by a {@link ConcurrentHashMap} from each item to an atomic
+ * counter of its occurrences. Unlike {@link MultiReaderHashBag}, no lock is taken: adding or removing occurrences of
+ * an item already in the bag is a compare-and-set on that item's counter, so threads only contend when they update the
+ * same item.
+ * <p>
+ * A counter that drops to zero is dead. It is never incremented again; the thread that zeroed it removes it from the
+ * map, and a thread that finds a dead counter while adding replaces it with a new one. This keeps removals from losing
+ * occurrences added concurrently.
+ * <p>
+ * Iteration, {@link #forEachWithOccurrences(ObjectIntProcedure)} and the bulk operations are weakly consistent: they
+ * never throw ConcurrentModificationException and see each item with a count it had at some point during the
+ * iteration. {@link #size()} sums the counters and so takes time proportional to {@link #sizeDistinct()}.
+ *
+ * @since 7.0
+ */
+public final class ConcurrentHashBag<T>
+        extends AbstractMutableBag<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public String toString()
+        {
+            return "ConcurrentHashBag.NULL_KEY";
+        }
+    };
+
+    private static final Function<Object, ?> KEY_TO_ITEM = new Function<Object, Object>()
+    {
+        public Object valueOf(Object key)
+        {
+            return ConcurrentHashBag.nonSentinel(key);
+        }
+    };
+
+    private ConcurrentHashMap<Object, AtomicInteger> items;
+
+    public ConcurrentHashBag()
+    {
+        this.items = ConcurrentHashMap.newMap();
+    }
+
+    public ConcurrentHashBag(int size)
+    {
+        this.items = ConcurrentHashMap.newMap(size);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag()
+    {
+        return new ConcurrentHashBag<E>();
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(int size)
+    {
+        return new ConcurrentHashBag<E>(size);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Bag<? extends E> source)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag(source.sizeDistinct());
+        result.addAllBag(source);
+        return result;
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Iterable<? extends E> source)
+    {
+        if (source instanceof Bag)
+        {
+            return ConcurrentHashBag.newBag((Bag<E>) source);
+        }
+        return ConcurrentHashBag.newBagWith((E[]) Iterate.toArray(source));
+    }
+
+    public static <E> ConcurrentHashBag<E> newBagWith(E... elements)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        ArrayIterate.addAllTo(elements, result);
+        return result;
+    }
+
+    private static Object toSentinelIfNull(Object item)
+    {
+        if (item == null)
+        {
+            return NULL_KEY;
+        }
+        return item;
+    }
+
+    private static <T> T nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (T) key;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> source)
+    {
+        if (source instanceof Bag)
+        {
+            return this.addAllBag((Bag<T>) source);
+        }
+        return super.addAll(source);
+    }
+
+    private boolean addAllBag(Bag<? extends T> source)
+    {
+        source.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                ConcurrentHashBag.this.addOccurrences(each, occurrences);
+            }
+        });
+        return source.notEmpty();
+    }
+
+    public boolean add(T item)
+    {
+        this.addOccurrences(item, 1);
+        return true;
+    }
+
+    public void addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences > 0)
+        {
+            Object key = ConcurrentHashBag.toSentinelIfNull(item);
+            while (true)
+            {
+                AtomicInteger counter = this.items.get(key);
+                if (counter == null)
+                {
+                    counter = this.items.putIfAbsent(key, new AtomicInteger(occurrences));
+                    if (counter == null)
+                    {
+                        return;
+                    }
+                }
+                if (this.addToLiveCounter(counter, occurrences)
+                        || this.items.replace(key, counter, new AtomicInteger(occurrences)))
+                {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds to the counter unless it is dead, in which case it is left unchanged and false is returned.
+     */
+    private boolean addToLiveCounter(AtomicInteger counter, int occurrences)
+    {
+        while (true)
+        {
+            int current = counter.get();
+            if (current == 0)
+            {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + occurrences))
+            {
+                return true;
+            }
+        }
+    }
+
+    public boolean remove(Object item)
+    {
+        return this.removeOccurrences(item, 1);
+    }
+
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+
+        if (occurrences == 0)
+        {
+            return false;
+        }
+
+        Object key = ConcurrentHashBag.toSentinelIfNull(item);
+        AtomicInteger counter = this.items.get(key);
+        if (counter == null)
+        {
+            return false;
+        }
+        while (true)
+        {
+            int current = counter.get();
+            if (current == 0)
+            {
+                return false;
+            }
+            int newValue = Math.max(0, current - occurrences);
+            if (counter.compareAndSet(current, newValue))
+            {
+                if (newValue == 0)
+                {
+                    this.items.remove(key, counter);
+                }
+                return true;
+            }
+        }
+    }
+
+    public boolean setOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+
+        Object key = ConcurrentHashBag.toSentinelIfNull(item);
+        while (true)
+        {
+            AtomicInteger counter = this.items.get(key);
+            if (counter == null)
+            {
+                if (occurrences == 0)
+                {
+                    return false;
+                }
+                if (this.items.putIfAbsent(key, new AtomicInteger(occurrences)) == null)
+                {
+                    return true;
+                }
+            }
+            else
+            {
+                int current = counter.get();
+                if (current == occurrences)
+                {
+                    return false;
+                }
+                if (current == 0)
+                {
+                    if (this.items.replace(key, counter, new AtomicInteger(occurrences)))
+                    {
+                        return true;
+                    }
+                }
+                else if (counter.compareAndSet(current, occurrences))
+                {
+                    if (occurrences == 0)
+                    {
+                        this.items.remove(key, counter);
+                    }
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Kills the counter and removes it from the map, returning the number of occurrences it held.
+     */
+    private int removeAllOccurrences(Object key, AtomicInteger counter)
+    {
+        int removed = counter.getAndSet(0);
+        this.items.remove(key, counter);
+        return removed;
+    }
+
+    private int removeAllOccurrences(Object item)
+    {
+        Object key = ConcurrentHashBag.toSentinelIfNull(item);
+        AtomicInteger counter = this.items.get(key);
+        return counter == null ? 0 : this.removeAllOccurrences(key, counter);
+    }
+
+    public void clear()
+    {
+        for (Map.Entry<Object, AtomicInteger> entry : this.items.entrySet())
+        {
+            this.removeAllOccurrences(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        boolean changed = false;
+        for (Map.Entry<Object, AtomicInteger> entry : this.items.entrySet())
+        {
+            if (predicate.accept(ConcurrentHashBag.<T>nonSentinel(entry.getKey())))
+            {
+                changed |= this.removeAllOccurrences(entry.getKey(), entry.getValue()) > 0;
+            }
+        }
+        return changed;
+    }
+
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        boolean changed = false;
+        for (Map.Entry<Object, AtomicInteger> entry : this.items.entrySet())
+        {
+            if (predicate.accept(ConcurrentHashBag.<T>nonSentinel(entry.getKey()), parameter))
+            {
+                changed |= this.removeAllOccurrences(entry.getKey(), entry.getValue()) > 0;
+            }
+        }
+        return changed;
+    }
+
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        final Counter removed = new Counter();
+        if (iterable instanceof Bag)
+        {
+            ((Bag<?>) iterable).forEachWithOccurrences(new ObjectIntProcedure<Object>()
+            {
+                public void value(Object each, int occurrences)
+                {
+                    removed.add(ConcurrentHashBag.this.removeAllOccurrences(each));
+                }
+            });
+        }
+        else
+        {
+            for (Object each : iterable)
+            {
+                removed.add(this.removeAllOccurrences(each));
+            }
+        }
+        return removed.getCount() > 0;
+    }
+
+    public int sizeDistinct()
+    {
+        return this.items.size();
+    }
+
+    public int size()
+    {
+        int size = 0;
+        for (AtomicInteger counter : this.items.values())
+        {
+            size += counter.get();
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.items.isEmpty();
+    }
+
+    public int occurrencesOf(Object item)
+    {
+        AtomicInteger counter = this.items.get(ConcurrentHashBag.toSentinelIfNull(item));
+        return counter == null ? 0 : counter.get();
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        return this.occurrencesOf(o) > 0;
+    }
+
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        for (Map.Entry<Object, AtomicInteger> entry : this.items.entrySet())
+        {
+            int occurrences = entry.getValue().get();
+            if (occurrences > 0)
+            {
+                objectIntProcedure.value(ConcurrentHashBag.<T>nonSentinel(entry.getKey()), occurrences);
+            }
+        }
+    }
+
+    public MutableBag<T> selectByOccurrences(final IntPredicate predicate)
+    {
+        final ConcurrentHashBag<T> result = ConcurrentHashBag.newBag();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                if (predicate.accept(occurrences))
+                {
+                    result.addOccurrences(each, occurrences);
+                }
+            }
+        });
+        return result;
+    }
+
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        final MutableMap<T, Integer> map = UnifiedMap.newMap(this.items.size());
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                map.put(item, count);
+            }
+        });
+        return map;
+    }
+
+    @Override
+    protected RichIterable<T> getKeysView()
+    {
+        return LazyIterate.collect(this.items.keySet(), (Function<Object, T>) KEY_TO_ITEM);
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        MutableMap<T, Integer> snapshot = this.toMapOfItemToCount();
+        if (snapshot.size() != bag.sizeDistinct())
+        {
+            return false;
+        }
+        for (Map.Entry<T, Integer> entry : snapshot.entrySet())
+        {
+            if (bag.occurrencesOf(entry.getKey()) != entry.getValue().intValue())
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final Counter counter = new Counter();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                counter.add((item == null ? 0 : item.hashCode()) ^ count);
+            }
+        });
+        return counter.getCount();
+    }
+
+    public void each(final Procedure<? super T> procedure)
+    {
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T key, int count)
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    procedure.value(key);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(final ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        final Counter index = new Counter();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T key, int count)
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    objectIntProcedure.value(key, index.getCount());
+                    index.increment();
+                }
+            }
+        });
+    }
+
+    @Override
+    public <P> void forEachWith(final Procedure2<? super T, ? super P> procedure, final P parameter)
+    {
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T key, int count)
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    procedure.value(key, parameter);
+                }
+            }
+        });
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new InternalIterator();
+    }
+
+    public MutableBag<T> newEmpty()
+    {
+        return ConcurrentHashBag.newBag();
+    }
+
+    public ConcurrentHashBag<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T element1, T element2)
+    {
+        this.add(element1);
+        this.add(element2);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T element1, T element2, T element3)
+    {
+        this.add(element1);
+        this.add(element2);
+        this.add(element3);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    public ConcurrentHashBag<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> withoutAll(Iterable<? extends T> iterable)
+    {
+        this.removeAllIterable(iterable);
+        return this;
+    }
+
+    public <V> HashBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.<V, T>newMultimap());
+    }
+
+    public <V> HashBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.<V, T>newMultimap());
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        MutableMap<T, Integer> snapshot = this.toMapOfItemToCount();
+        out.writeInt(snapshot.size());
+        for (Map.Entry<T, Integer> entry : snapshot.entrySet())
+        {
+            out.writeObject(entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.items = ConcurrentHashMap.newMap(size);
+        for (int i = 0; i < size; i++)
+        {
+            this.addOccurrences((T) in.readObject(), in.readInt());
+        }
+    }
+
+    private class InternalIterator implements Iterator<T>
+    {
+        private final Iterator<Map.Entry<Object, AtomicInteger>> iterator = ConcurrentHashBag.this.items.entrySet().iterator();
+
+        private T nextItem;
+        private int occurrences;
+        private T currentItem;
+        private boolean canRemove;
+
+        private InternalIterator()
+        {
+            this.advance();
+        }
+
+        private void advance()
+        {
+            while (this.occurrences == 0 && this.iterator.hasNext())
+            {
+                Map.Entry<Object, AtomicInteger> entry = this.iterator.next();
+                this.nextItem = ConcurrentHashBag.nonSentinel(entry.getKey());
+                this.occurrences = entry.getValue().get();
+            }
+        }
+
+        public boolean hasNext()
+        {
+            return this.occurrences > 0;
+        }
+
+        public T next()
+        {
+            if (this.occurrences == 0)
+            {
+                throw new NoSuchElementException();
+            }
+            this.currentItem = this.nextItem;
+            this.occurrences--;
+            this.advance();
+            this.canRemove = true;
+            return this.currentItem;
+        }
+
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            ConcurrentHashBag.this.remove(this.currentItem);
+            this.canRemove = false;
+        }
+    }
+}
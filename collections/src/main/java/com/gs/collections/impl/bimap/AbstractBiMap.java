@@ -20,7 +20,9 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.Map;
 
+import com.gs.collections.api.IntIterable;
 import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.LongIterable;
 import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
@@ -56,12 +58,18 @@ import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableIntObjectMap;
+import com.gs.collections.api.map.primitive.MutableLongObjectMap;
 import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.primitive.DoubleSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.IntSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.LongSummaryStatistics;
 import com.gs.collections.api.tuple.Pair;
 
 public abstract class AbstractBiMap<K, V> implements BiMap<K, V>
@@ -599,6 +607,41 @@ public abstract class AbstractBiMap<K, V> implements BiMap<K, V>
         return this.getDelegate().sumOfDouble(function);
     }
 
+    public IntSummaryStatistics summarizeInt(IntFunction<? super V> function)
+    {
+        return this.getDelegate().summarizeInt(function);
+    }
+
+    public LongSummaryStatistics summarizeLong(LongFunction<? super V> function)
+    {
+        return this.getDelegate().summarizeLong(function);
+    }
+
+    public DoubleSummaryStatistics summarizeDouble(DoubleFunction<? super V> function)
+    {
+        return this.getDelegate().summarizeDouble(function);
+    }
+
+    public <R extends MutableIntCollection> R flatCollectInt(Function<? super V, ? extends IntIterable> function, R target)
+    {
+        return this.getDelegate().flatCollectInt(function, target);
+    }
+
+    public <R extends MutableLongCollection> R flatCollectLong(Function<? super V, ? extends LongIterable> function, R target)
+    {
+        return this.getDelegate().flatCollectLong(function, target);
+    }
+
+    public MutableIntObjectMap<MutableList<V>> groupByInt(IntFunction<? super V> function)
+    {
+        return this.getDelegate().groupByInt(function);
+    }
+
+    public MutableLongObjectMap<MutableList<V>> groupByLong(LongFunction<? super V> function)
+    {
+        return this.getDelegate().groupByLong(function);
+    }
+
     public <V1> ObjectLongMap<V1> sumByInt(Function<V, V1> groupBy, IntFunction<? super V> function)
     {
         return this.getDelegate().sumByInt(groupBy, function);
@@ -618,4 +661,19 @@ public abstract class AbstractBiMap<K, V> implements BiMap<K, V>
     {
         return this.getDelegate().sumByDouble(groupBy, function);
     }
+
+    public <V1> ObjectIntMap<V1> aggregateIntBy(Function<? super V, ? extends V1> groupBy, int zeroValue, IntObjectToIntFunction<? super V> aggregator)
+    {
+        return this.getDelegate().aggregateIntBy(groupBy, zeroValue, aggregator);
+    }
+
+    public <V1> ObjectLongMap<V1> aggregateLongBy(Function<? super V, ? extends V1> groupBy, long zeroValue, LongObjectToLongFunction<? super V> aggregator)
+    {
+        return this.getDelegate().aggregateLongBy(groupBy, zeroValue, aggregator);
+    }
+
+    public <V1> ObjectDoubleMap<V1> aggregateDoubleBy(Function<? super V, ? extends V1> groupBy, double zeroValue, DoubleObjectToDoubleFunction<? super V> aggregator)
+    {
+        return this.getDelegate().aggregateDoubleBy(groupBy, zeroValue, aggregator);
+    }
 }
@@ -22,13 +22,17 @@ import com.gs.collections.api.block.function.primitive.BooleanFunction;
 import com.gs.collections.api.block.function.primitive.ByteFunction;
 import com.gs.collections.api.block.function.primitive.CharFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.DoubleObjectToDoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.IntObjectToIntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.LongObjectToLongFunction;
 import com.gs.collections.api.block.function.primitive.ShortFunction;
 import com.gs.collections.api.map.primitive.MutableObjectDoubleMap;
 import com.gs.collections.impl.factory.primitive.ObjectDoubleMaps;
 import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectIntHashMap;
 import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 
 public final class PrimitiveFunctions
@@ -189,6 +193,51 @@ public final class PrimitiveFunctions
         };
     }
 
+    public static <T, K> Function2<ObjectIntHashMap<K>, T, ObjectIntHashMap<K>> aggregateIntByFunction(final Function<? super T, ? extends K> groupBy, final int zeroValue, final IntObjectToIntFunction<? super T> aggregator)
+    {
+        return new Function2<ObjectIntHashMap<K>, T, ObjectIntHashMap<K>>()
+        {
+            private static final long serialVersionUID = 1L;
+
+            public ObjectIntHashMap<K> value(ObjectIntHashMap<K> map, T each)
+            {
+                K groupKey = groupBy.valueOf(each);
+                map.put(groupKey, aggregator.intValueOf(map.getIfAbsent(groupKey, zeroValue), each));
+                return map;
+            }
+        };
+    }
+
+    public static <T, K> Function2<ObjectLongHashMap<K>, T, ObjectLongHashMap<K>> aggregateLongByFunction(final Function<? super T, ? extends K> groupBy, final long zeroValue, final LongObjectToLongFunction<? super T> aggregator)
+    {
+        return new Function2<ObjectLongHashMap<K>, T, ObjectLongHashMap<K>>()
+        {
+            private static final long serialVersionUID = 1L;
+
+            public ObjectLongHashMap<K> value(ObjectLongHashMap<K> map, T each)
+            {
+                K groupKey = groupBy.valueOf(each);
+                map.put(groupKey, aggregator.longValueOf(map.getIfAbsent(groupKey, zeroValue), each));
+                return map;
+            }
+        };
+    }
+
+    public static <T, K> Function2<ObjectDoubleHashMap<K>, T, ObjectDoubleHashMap<K>> aggregateDoubleByFunction(final Function<? super T, ? extends K> groupBy, final double zeroValue, final DoubleObjectToDoubleFunction<? super T> aggregator)
+    {
+        return new Function2<ObjectDoubleHashMap<K>, T, ObjectDoubleHashMap<K>>()
+        {
+            private static final long serialVersionUID = 1L;
+
+            public ObjectDoubleHashMap<K> value(ObjectDoubleHashMap<K> map, T each)
+            {
+                K groupKey = groupBy.valueOf(each);
+                map.put(groupKey, aggregator.doubleValueOf(map.getIfAbsent(groupKey, zeroValue), each));
+                return map;
+            }
+        };
+    }
+
     private static class IntegerIsPositive
             implements BooleanFunction<Integer>
     {
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure.primitive;
+
+import com.gs.collections.api.IntIterable;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.collection.primitive.MutableIntCollection;
+
+/**
+ * Applies a function to an object and adds all the int values of the resulting IntIterable to a target int collection.
+ *
+ * @since 7.0
+ */
+public final class FlatCollectIntProcedure<T> implements Procedure<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Function<? super T, ? extends IntIterable> function;
+    private final MutableIntCollection intCollection;
+
+    public FlatCollectIntProcedure(Function<? super T, ? extends IntIterable> function, MutableIntCollection targetCollection)
+    {
+        this.function = function;
+        this.intCollection = targetCollection;
+    }
+
+    public void value(T object)
+    {
+        this.intCollection.addAll(this.function.valueOf(object));
+    }
+
+    public MutableIntCollection getIntCollection()
+    {
+        return this.intCollection;
+    }
+}
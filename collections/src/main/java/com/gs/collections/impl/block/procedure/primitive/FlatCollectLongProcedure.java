@@ -0,0 +1,51 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure.primitive;
+
+import com.gs.collections.api.LongIterable;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.collection.primitive.MutableLongCollection;
+
+/**
+ * Applies a function to an object and adds all the long values of the resulting LongIterable to a target long collection.
+ *
+ * @since 7.0
+ */
+public final class FlatCollectLongProcedure<T> implements Procedure<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Function<? super T, ? extends LongIterable> function;
+    private final MutableLongCollection longCollection;
+
+    public FlatCollectLongProcedure(Function<? super T, ? extends LongIterable> function, MutableLongCollection targetCollection)
+    {
+        this.function = function;
+        this.longCollection = targetCollection;
+    }
+
+    public void value(T object)
+    {
+        this.longCollection.addAll(this.function.valueOf(object));
+    }
+
+    public MutableLongCollection getLongCollection()
+    {
+        return this.longCollection;
+    }
+}
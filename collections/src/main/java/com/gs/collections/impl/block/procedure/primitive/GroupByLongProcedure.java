@@ -0,0 +1,60 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure.primitive;
+
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.primitive.MutableLongObjectMap;
+import com.gs.collections.impl.block.factory.Functions0;
+import com.gs.collections.impl.map.mutable.primitive.LongObjectHashMap;
+
+/**
+ * Groups each object into a list keyed by the long value the longFunction returns for it, without boxing the keys.
+ *
+ * @since 7.0
+ */
+public final class GroupByLongProcedure<T> implements Procedure<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final LongFunction<? super T> longFunction;
+    private final MutableLongObjectMap<MutableList<T>> result;
+    private final Function0<MutableList<T>> newList = Functions0.newFastList();
+
+    public GroupByLongProcedure(LongFunction<? super T> longFunction)
+    {
+        this(longFunction, LongObjectHashMap.<MutableList<T>>newMap());
+    }
+
+    public GroupByLongProcedure(LongFunction<? super T> longFunction, MutableLongObjectMap<MutableList<T>> target)
+    {
+        this.longFunction = longFunction;
+        this.result = target;
+    }
+
+    public void value(T object)
+    {
+        this.result.getIfAbsentPut(this.longFunction.longValueOf(object), this.newList).add(object);
+    }
+
+    public MutableLongObjectMap<MutableList<T>> getResult()
+    {
+        return this.result;
+    }
+}
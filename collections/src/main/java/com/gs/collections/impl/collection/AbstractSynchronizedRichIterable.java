@@ -20,7 +20,9 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 
+import com.gs.collections.api.IntIterable;
 import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.LongIterable;
 import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
@@ -54,12 +56,18 @@ import com.gs.collections.api.collection.primitive.MutableLongCollection;
 import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableIntObjectMap;
+import com.gs.collections.api.map.primitive.MutableLongObjectMap;
 import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.primitive.DoubleSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.IntSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.LongSummaryStatistics;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
@@ -735,6 +743,62 @@ public abstract class AbstractSynchronizedRichIterable<T> implements RichIterabl
         }
     }
 
+    public IntSummaryStatistics summarizeInt(IntFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.summarizeInt(function);
+        }
+    }
+
+    public LongSummaryStatistics summarizeLong(LongFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.summarizeLong(function);
+        }
+    }
+
+    public DoubleSummaryStatistics summarizeDouble(DoubleFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.summarizeDouble(function);
+        }
+    }
+
+    public <R extends MutableIntCollection> R flatCollectInt(Function<? super T, ? extends IntIterable> function, R target)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.flatCollectInt(function, target);
+        }
+    }
+
+    public <R extends MutableLongCollection> R flatCollectLong(Function<? super T, ? extends LongIterable> function, R target)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.flatCollectLong(function, target);
+        }
+    }
+
+    public MutableIntObjectMap<MutableList<T>> groupByInt(IntFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.groupByInt(function);
+        }
+    }
+
+    public MutableLongObjectMap<MutableList<T>> groupByLong(LongFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.groupByLong(function);
+        }
+    }
+
     public <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function)
     {
         synchronized (this.lock)
@@ -767,6 +831,30 @@ public abstract class AbstractSynchronizedRichIterable<T> implements RichIterabl
         }
     }
 
+    public <V> ObjectIntMap<V> aggregateIntBy(Function<? super T, ? extends V> groupBy, int zeroValue, IntObjectToIntFunction<? super T> aggregator)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.aggregateIntBy(groupBy, zeroValue, aggregator);
+        }
+    }
+
+    public <V> ObjectLongMap<V> aggregateLongBy(Function<? super T, ? extends V> groupBy, long zeroValue, LongObjectToLongFunction<? super T> aggregator)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.aggregateLongBy(groupBy, zeroValue, aggregator);
+        }
+    }
+
+    public <V> ObjectDoubleMap<V> aggregateDoubleBy(Function<? super T, ? extends V> groupBy, double zeroValue, DoubleObjectToDoubleFunction<? super T> aggregator)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.aggregateDoubleBy(groupBy, zeroValue, aggregator);
+        }
+    }
+
     public String makeString()
     {
         synchronized (this.lock)
@@ -20,7 +20,9 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 
+import com.gs.collections.api.IntIterable;
 import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.LongIterable;
 import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
@@ -56,13 +58,19 @@ import com.gs.collections.api.collection.primitive.MutableLongCollection;
 import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableIntObjectMap;
+import com.gs.collections.api.map.primitive.MutableLongObjectMap;
 import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.partition.PartitionMutableCollection;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.primitive.DoubleSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.IntSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.LongSummaryStatistics;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.api.tuple.Twin;
 import com.gs.collections.impl.bag.mutable.HashBag;
@@ -72,9 +80,17 @@ import com.gs.collections.impl.block.factory.Predicates2;
 import com.gs.collections.impl.block.factory.PrimitiveFunctions;
 import com.gs.collections.impl.block.procedure.MutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.NonMutatingAggregationProcedure;
+import com.gs.collections.impl.block.procedure.SummarizeDoubleProcedure;
+import com.gs.collections.impl.block.procedure.SummarizeIntProcedure;
+import com.gs.collections.impl.block.procedure.SummarizeLongProcedure;
+import com.gs.collections.impl.block.procedure.primitive.FlatCollectIntProcedure;
+import com.gs.collections.impl.block.procedure.primitive.FlatCollectLongProcedure;
+import com.gs.collections.impl.block.procedure.primitive.GroupByIntProcedure;
+import com.gs.collections.impl.block.procedure.primitive.GroupByLongProcedure;
 import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectIntHashMap;
 import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
@@ -247,6 +263,53 @@ public abstract class AbstractCollectionAdapter<T>
         return Iterate.sumOfDouble(this.getDelegate(), function);
     }
 
+    public IntSummaryStatistics summarizeInt(IntFunction<? super T> function)
+    {
+        SummarizeIntProcedure<T> procedure = new SummarizeIntProcedure<T>(function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public LongSummaryStatistics summarizeLong(LongFunction<? super T> function)
+    {
+        SummarizeLongProcedure<T> procedure = new SummarizeLongProcedure<T>(function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public DoubleSummaryStatistics summarizeDouble(DoubleFunction<? super T> function)
+    {
+        SummarizeDoubleProcedure<T> procedure = new SummarizeDoubleProcedure<T>(function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public <R extends MutableIntCollection> R flatCollectInt(Function<? super T, ? extends IntIterable> function, R target)
+    {
+        this.forEach(new FlatCollectIntProcedure<T>(function, target));
+        return target;
+    }
+
+    public <R extends MutableLongCollection> R flatCollectLong(Function<? super T, ? extends LongIterable> function, R target)
+    {
+        this.forEach(new FlatCollectLongProcedure<T>(function, target));
+        return target;
+    }
+
+    public MutableIntObjectMap<MutableList<T>> groupByInt(IntFunction<? super T> function)
+    {
+        GroupByIntProcedure<T> procedure = new GroupByIntProcedure<T>(function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public MutableLongObjectMap<MutableList<T>> groupByLong(LongFunction<? super T> function)
+    {
+        GroupByLongProcedure<T> procedure = new GroupByLongProcedure<T>(function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
     public <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function)
     {
         ObjectLongHashMap<V> result = ObjectLongHashMap.newMap();
@@ -271,6 +334,24 @@ public abstract class AbstractCollectionAdapter<T>
         return this.injectInto(result, PrimitiveFunctions.sumByDoubleFunction(groupBy, function));
     }
 
+    public <V> ObjectIntMap<V> aggregateIntBy(Function<? super T, ? extends V> groupBy, int zeroValue, IntObjectToIntFunction<? super T> aggregator)
+    {
+        ObjectIntHashMap<V> result = ObjectIntHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.aggregateIntByFunction(groupBy, zeroValue, aggregator));
+    }
+
+    public <V> ObjectLongMap<V> aggregateLongBy(Function<? super T, ? extends V> groupBy, long zeroValue, LongObjectToLongFunction<? super T> aggregator)
+    {
+        ObjectLongHashMap<V> result = ObjectLongHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.aggregateLongByFunction(groupBy, zeroValue, aggregator));
+    }
+
+    public <V> ObjectDoubleMap<V> aggregateDoubleBy(Function<? super T, ? extends V> groupBy, double zeroValue, DoubleObjectToDoubleFunction<? super T> aggregator)
+    {
+        ObjectDoubleHashMap<V> result = ObjectDoubleHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.aggregateDoubleByFunction(groupBy, zeroValue, aggregator));
+    }
+
     public MutableCollection<T> select(Predicate<? super T> predicate)
     {
         return this.wrap(Iterate.select(this.getDelegate(), predicate));
@@ -21,7 +21,9 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.concurrent.locks.ReadWriteLock;
 
+import com.gs.collections.api.IntIterable;
 import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.LongIterable;
 import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
@@ -57,12 +59,18 @@ import com.gs.collections.api.collection.primitive.MutableLongCollection;
 import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableIntObjectMap;
+import com.gs.collections.api.map.primitive.MutableLongObjectMap;
 import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.primitive.DoubleSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.IntSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.LongSummaryStatistics;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.api.tuple.Twin;
 import com.gs.collections.impl.block.factory.PrimitiveFunctions;
@@ -70,6 +78,7 @@ import com.gs.collections.impl.block.procedure.MutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.NonMutatingAggregationProcedure;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectIntHashMap;
 import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 
 /**
@@ -1032,6 +1041,97 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
         }
     }
 
+    public IntSummaryStatistics summarizeInt(IntFunction<? super T> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().summarizeInt(function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public LongSummaryStatistics summarizeLong(LongFunction<? super T> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().summarizeLong(function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public DoubleSummaryStatistics summarizeDouble(DoubleFunction<? super T> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().summarizeDouble(function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public <R extends MutableIntCollection> R flatCollectInt(Function<? super T, ? extends IntIterable> function, R target)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().flatCollectInt(function, target);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public <R extends MutableLongCollection> R flatCollectLong(Function<? super T, ? extends LongIterable> function, R target)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().flatCollectLong(function, target);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public MutableIntObjectMap<MutableList<T>> groupByInt(IntFunction<? super T> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().groupByInt(function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public MutableLongObjectMap<MutableList<T>> groupByLong(LongFunction<? super T> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().groupByLong(function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
     public <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function)
     {
         ObjectLongHashMap<V> result = ObjectLongHashMap.newMap();
@@ -1056,6 +1156,24 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
         return this.injectInto(result, PrimitiveFunctions.sumByDoubleFunction(groupBy, function));
     }
 
+    public <V> ObjectIntMap<V> aggregateIntBy(Function<? super T, ? extends V> groupBy, int zeroValue, IntObjectToIntFunction<? super T> aggregator)
+    {
+        ObjectIntHashMap<V> result = ObjectIntHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.aggregateIntByFunction(groupBy, zeroValue, aggregator));
+    }
+
+    public <V> ObjectLongMap<V> aggregateLongBy(Function<? super T, ? extends V> groupBy, long zeroValue, LongObjectToLongFunction<? super T> aggregator)
+    {
+        ObjectLongHashMap<V> result = ObjectLongHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.aggregateLongByFunction(groupBy, zeroValue, aggregator));
+    }
+
+    public <V> ObjectDoubleMap<V> aggregateDoubleBy(Function<? super T, ? extends V> groupBy, double zeroValue, DoubleObjectToDoubleFunction<? super T> aggregator)
+    {
+        ObjectDoubleHashMap<V> result = ObjectDoubleHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.aggregateDoubleByFunction(groupBy, zeroValue, aggregator));
+    }
+
     public <IV, P> IV injectIntoWith(
             IV injectValue,
             Function3<? super IV, ? super T, ? super P, ? extends IV> function,
@@ -1826,6 +1944,41 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
             return this.delegate.sumOfDouble(function);
         }
 
+        public IntSummaryStatistics summarizeInt(IntFunction<? super T> function)
+        {
+            return this.delegate.summarizeInt(function);
+        }
+
+        public LongSummaryStatistics summarizeLong(LongFunction<? super T> function)
+        {
+            return this.delegate.summarizeLong(function);
+        }
+
+        public DoubleSummaryStatistics summarizeDouble(DoubleFunction<? super T> function)
+        {
+            return this.delegate.summarizeDouble(function);
+        }
+
+        public <R extends MutableIntCollection> R flatCollectInt(Function<? super T, ? extends IntIterable> function, R target)
+        {
+            return this.delegate.flatCollectInt(function, target);
+        }
+
+        public <R extends MutableLongCollection> R flatCollectLong(Function<? super T, ? extends LongIterable> function, R target)
+        {
+            return this.delegate.flatCollectLong(function, target);
+        }
+
+        public MutableIntObjectMap<MutableList<T>> groupByInt(IntFunction<? super T> function)
+        {
+            return this.delegate.groupByInt(function);
+        }
+
+        public MutableLongObjectMap<MutableList<T>> groupByLong(LongFunction<? super T> function)
+        {
+            return this.delegate.groupByLong(function);
+        }
+
         public <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function)
         {
             return this.delegate.sumByInt(groupBy, function);
@@ -1846,6 +1999,21 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
             return this.delegate.sumByDouble(groupBy, function);
         }
 
+        public <V> ObjectIntMap<V> aggregateIntBy(Function<? super T, ? extends V> groupBy, int zeroValue, IntObjectToIntFunction<? super T> aggregator)
+        {
+            return this.delegate.aggregateIntBy(groupBy, zeroValue, aggregator);
+        }
+
+        public <V> ObjectLongMap<V> aggregateLongBy(Function<? super T, ? extends V> groupBy, long zeroValue, LongObjectToLongFunction<? super T> aggregator)
+        {
+            return this.delegate.aggregateLongBy(groupBy, zeroValue, aggregator);
+        }
+
+        public <V> ObjectDoubleMap<V> aggregateDoubleBy(Function<? super T, ? extends V> groupBy, double zeroValue, DoubleObjectToDoubleFunction<? super T> aggregator)
+        {
+            return this.delegate.aggregateDoubleBy(groupBy, zeroValue, aggregator);
+        }
+
         public <IV, P> IV injectIntoWith(
                 IV injectValue,
                 Function3<? super IV, ? super T, ? super P, ? extends IV> function,
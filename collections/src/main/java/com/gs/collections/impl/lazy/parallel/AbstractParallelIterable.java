@@ -36,42 +36,76 @@ import com.gs.collections.api.bag.sorted.MutableSortedBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.DoubleDoubleToDoubleFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.DoubleObjectToDoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.IntIntToIntFunction;
+import com.gs.collections.api.block.function.primitive.IntObjectToIntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.LongLongToLongFunction;
+import com.gs.collections.api.block.function.primitive.LongObjectToLongFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.IntObjectProcedure;
+import com.gs.collections.api.block.procedure.primitive.LongObjectProcedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectDoubleProcedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectLongProcedure;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableIntObjectMap;
+import com.gs.collections.api.map.primitive.MutableLongObjectMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.primitive.DoubleSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.IntSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.LongSummaryStatistics;
 import com.gs.collections.impl.Counter;
 import com.gs.collections.impl.bag.mutable.HashBag;
 import com.gs.collections.impl.bag.sorted.mutable.TreeBag;
 import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.block.factory.Functions0;
 import com.gs.collections.impl.block.factory.Functions2;
 import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.block.factory.PrimitiveFunctions;
 import com.gs.collections.impl.block.factory.Procedures;
 import com.gs.collections.impl.block.procedure.CollectionAddProcedure;
 import com.gs.collections.impl.block.procedure.DoubleSumResultHolder;
 import com.gs.collections.impl.block.procedure.MapCollectProcedure;
 import com.gs.collections.impl.block.procedure.MutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.NonMutatingAggregationProcedure;
+import com.gs.collections.impl.block.procedure.SummarizeDoubleProcedure;
+import com.gs.collections.impl.block.procedure.SummarizeIntProcedure;
+import com.gs.collections.impl.block.procedure.SummarizeLongProcedure;
 import com.gs.collections.impl.block.procedure.checked.CheckedProcedure2;
+import com.gs.collections.impl.block.procedure.primitive.GroupByIntProcedure;
+import com.gs.collections.impl.block.procedure.primitive.GroupByLongProcedure;
 import com.gs.collections.impl.list.mutable.CompositeFastList;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
 import com.gs.collections.impl.map.mutable.ConcurrentHashMapUnsafe;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.primitive.IntObjectHashMap;
+import com.gs.collections.impl.map.mutable.primitive.LongObjectHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectIntHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
 import com.gs.collections.impl.set.mutable.SetAdapter;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
+import com.gs.collections.impl.statistics.primitive.DoubleSummaryStatisticsAccumulator;
+import com.gs.collections.impl.statistics.primitive.IntSummaryStatisticsAccumulator;
+import com.gs.collections.impl.statistics.primitive.LongSummaryStatisticsAccumulator;
 
 @Beta
 public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements ParallelIterable<T>
@@ -879,6 +913,269 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return this.sumOfDoubleOrdered(map);
     }
 
+    public IntSummaryStatistics summarizeInt(final IntFunction<? super T> function)
+    {
+        Function<Batch<T>, IntSummaryStatisticsAccumulator> map = new Function<Batch<T>, IntSummaryStatisticsAccumulator>()
+        {
+            public IntSummaryStatisticsAccumulator valueOf(Batch<T> batch)
+            {
+                SummarizeIntProcedure<T> procedure = new SummarizeIntProcedure<T>(function);
+                batch.forEach(procedure);
+                return procedure.getResult();
+            }
+        };
+
+        Procedure2<IntSummaryStatisticsAccumulator, IntSummaryStatisticsAccumulator> combineProcedure = new Procedure2<IntSummaryStatisticsAccumulator, IntSummaryStatisticsAccumulator>()
+        {
+            public void value(IntSummaryStatisticsAccumulator result, IntSummaryStatisticsAccumulator batchResult)
+            {
+                result.merge(batchResult);
+            }
+        };
+
+        IntSummaryStatisticsAccumulator state = new IntSummaryStatisticsAccumulator();
+        this.collectCombineUnordered(map, combineProcedure, state);
+        return state;
+    }
+
+    public LongSummaryStatistics summarizeLong(final LongFunction<? super T> function)
+    {
+        Function<Batch<T>, LongSummaryStatisticsAccumulator> map = new Function<Batch<T>, LongSummaryStatisticsAccumulator>()
+        {
+            public LongSummaryStatisticsAccumulator valueOf(Batch<T> batch)
+            {
+                SummarizeLongProcedure<T> procedure = new SummarizeLongProcedure<T>(function);
+                batch.forEach(procedure);
+                return procedure.getResult();
+            }
+        };
+
+        Procedure2<LongSummaryStatisticsAccumulator, LongSummaryStatisticsAccumulator> combineProcedure = new Procedure2<LongSummaryStatisticsAccumulator, LongSummaryStatisticsAccumulator>()
+        {
+            public void value(LongSummaryStatisticsAccumulator result, LongSummaryStatisticsAccumulator batchResult)
+            {
+                result.merge(batchResult);
+            }
+        };
+
+        LongSummaryStatisticsAccumulator state = new LongSummaryStatisticsAccumulator();
+        this.collectCombineUnordered(map, combineProcedure, state);
+        return state;
+    }
+
+    public DoubleSummaryStatistics summarizeDouble(final DoubleFunction<? super T> function)
+    {
+        Function<Batch<T>, DoubleSummaryStatisticsAccumulator> map = new Function<Batch<T>, DoubleSummaryStatisticsAccumulator>()
+        {
+            public DoubleSummaryStatisticsAccumulator valueOf(Batch<T> batch)
+            {
+                SummarizeDoubleProcedure<T> procedure = new SummarizeDoubleProcedure<T>(function);
+                batch.forEach(procedure);
+                return procedure.getResult();
+            }
+        };
+
+        Procedure2<DoubleSummaryStatisticsAccumulator, DoubleSummaryStatisticsAccumulator> combineProcedure = new Procedure2<DoubleSummaryStatisticsAccumulator, DoubleSummaryStatisticsAccumulator>()
+        {
+            public void value(DoubleSummaryStatisticsAccumulator result, DoubleSummaryStatisticsAccumulator batchResult)
+            {
+                result.merge(batchResult);
+            }
+        };
+
+        DoubleSummaryStatisticsAccumulator state = new DoubleSummaryStatisticsAccumulator();
+        this.collectCombineOrdered(map, combineProcedure, state);
+        return state;
+    }
+
+    public MutableIntObjectMap<MutableList<T>> groupByInt(final IntFunction<? super T> function)
+    {
+        Function<Batch<T>, MutableIntObjectMap<MutableList<T>>> map = new Function<Batch<T>, MutableIntObjectMap<MutableList<T>>>()
+        {
+            public MutableIntObjectMap<MutableList<T>> valueOf(Batch<T> batch)
+            {
+                GroupByIntProcedure<T> procedure = new GroupByIntProcedure<T>(function);
+                batch.forEach(procedure);
+                return procedure.getResult();
+            }
+        };
+
+        Procedure2<MutableIntObjectMap<MutableList<T>>, MutableIntObjectMap<MutableList<T>>> combineProcedure = new Procedure2<MutableIntObjectMap<MutableList<T>>, MutableIntObjectMap<MutableList<T>>>()
+        {
+            public void value(final MutableIntObjectMap<MutableList<T>> result, MutableIntObjectMap<MutableList<T>> batchResult)
+            {
+                batchResult.forEachKeyValue(new IntObjectProcedure<MutableList<T>>()
+                {
+                    public void value(int key, MutableList<T> batchGroup)
+                    {
+                        result.getIfAbsentPut(key, Functions0.<T>newFastList()).addAll(batchGroup);
+                    }
+                });
+            }
+        };
+
+        MutableIntObjectMap<MutableList<T>> state = IntObjectHashMap.newMap();
+        this.collectCombine(map, combineProcedure, state);
+        return state;
+    }
+
+    public MutableLongObjectMap<MutableList<T>> groupByLong(final LongFunction<? super T> function)
+    {
+        Function<Batch<T>, MutableLongObjectMap<MutableList<T>>> map = new Function<Batch<T>, MutableLongObjectMap<MutableList<T>>>()
+        {
+            public MutableLongObjectMap<MutableList<T>> valueOf(Batch<T> batch)
+            {
+                GroupByLongProcedure<T> procedure = new GroupByLongProcedure<T>(function);
+                batch.forEach(procedure);
+                return procedure.getResult();
+            }
+        };
+
+        Procedure2<MutableLongObjectMap<MutableList<T>>, MutableLongObjectMap<MutableList<T>>> combineProcedure = new Procedure2<MutableLongObjectMap<MutableList<T>>, MutableLongObjectMap<MutableList<T>>>()
+        {
+            public void value(final MutableLongObjectMap<MutableList<T>> result, MutableLongObjectMap<MutableList<T>> batchResult)
+            {
+                batchResult.forEachKeyValue(new LongObjectProcedure<MutableList<T>>()
+                {
+                    public void value(long key, MutableList<T> batchGroup)
+                    {
+                        result.getIfAbsentPut(key, Functions0.<T>newFastList()).addAll(batchGroup);
+                    }
+                });
+            }
+        };
+
+        MutableLongObjectMap<MutableList<T>> state = LongObjectHashMap.newMap();
+        this.collectCombine(map, combineProcedure, state);
+        return state;
+    }
+
+    public <K> ObjectIntMap<K> aggregateIntBy(
+            final Function<? super T, ? extends K> groupBy,
+            final int zeroValue,
+            final IntObjectToIntFunction<? super T> aggregator,
+            final IntIntToIntFunction combiner)
+    {
+        Function<Batch<T>, ObjectIntHashMap<K>> map = new Function<Batch<T>, ObjectIntHashMap<K>>()
+        {
+            public ObjectIntHashMap<K> valueOf(Batch<T> batch)
+            {
+                final ObjectIntHashMap<K> batchResult = ObjectIntHashMap.newMap();
+                final Function2<ObjectIntHashMap<K>, T, ObjectIntHashMap<K>> function = PrimitiveFunctions.aggregateIntByFunction(groupBy, zeroValue, aggregator);
+                batch.forEach(new Procedure<T>()
+                {
+                    public void value(T each)
+                    {
+                        function.value(batchResult, each);
+                    }
+                });
+                return batchResult;
+            }
+        };
+
+        Procedure2<ObjectIntHashMap<K>, ObjectIntHashMap<K>> combineProcedure = new Procedure2<ObjectIntHashMap<K>, ObjectIntHashMap<K>>()
+        {
+            public void value(final ObjectIntHashMap<K> result, ObjectIntHashMap<K> batchResult)
+            {
+                batchResult.forEachKeyValue(new ObjectIntProcedure<K>()
+                {
+                    public void value(K key, int batchValue)
+                    {
+                        result.put(key, result.containsKey(key) ? combiner.valueOf(result.get(key), batchValue) : batchValue);
+                    }
+                });
+            }
+        };
+
+        ObjectIntHashMap<K> state = ObjectIntHashMap.newMap();
+        this.collectCombine(map, combineProcedure, state);
+        return state;
+    }
+
+    public <K> ObjectLongMap<K> aggregateLongBy(
+            final Function<? super T, ? extends K> groupBy,
+            final long zeroValue,
+            final LongObjectToLongFunction<? super T> aggregator,
+            final LongLongToLongFunction combiner)
+    {
+        Function<Batch<T>, ObjectLongHashMap<K>> map = new Function<Batch<T>, ObjectLongHashMap<K>>()
+        {
+            public ObjectLongHashMap<K> valueOf(Batch<T> batch)
+            {
+                final ObjectLongHashMap<K> batchResult = ObjectLongHashMap.newMap();
+                final Function2<ObjectLongHashMap<K>, T, ObjectLongHashMap<K>> function = PrimitiveFunctions.aggregateLongByFunction(groupBy, zeroValue, aggregator);
+                batch.forEach(new Procedure<T>()
+                {
+                    public void value(T each)
+                    {
+                        function.value(batchResult, each);
+                    }
+                });
+                return batchResult;
+            }
+        };
+
+        Procedure2<ObjectLongHashMap<K>, ObjectLongHashMap<K>> combineProcedure = new Procedure2<ObjectLongHashMap<K>, ObjectLongHashMap<K>>()
+        {
+            public void value(final ObjectLongHashMap<K> result, ObjectLongHashMap<K> batchResult)
+            {
+                batchResult.forEachKeyValue(new ObjectLongProcedure<K>()
+                {
+                    public void value(K key, long batchValue)
+                    {
+                        result.put(key, result.containsKey(key) ? combiner.valueOf(result.get(key), batchValue) : batchValue);
+                    }
+                });
+            }
+        };
+
+        ObjectLongHashMap<K> state = ObjectLongHashMap.newMap();
+        this.collectCombine(map, combineProcedure, state);
+        return state;
+    }
+
+    public <K> ObjectDoubleMap<K> aggregateDoubleBy(
+            final Function<? super T, ? extends K> groupBy,
+            final double zeroValue,
+            final DoubleObjectToDoubleFunction<? super T> aggregator,
+            final DoubleDoubleToDoubleFunction combiner)
+    {
+        Function<Batch<T>, ObjectDoubleHashMap<K>> map = new Function<Batch<T>, ObjectDoubleHashMap<K>>()
+        {
+            public ObjectDoubleHashMap<K> valueOf(Batch<T> batch)
+            {
+                final ObjectDoubleHashMap<K> batchResult = ObjectDoubleHashMap.newMap();
+                final Function2<ObjectDoubleHashMap<K>, T, ObjectDoubleHashMap<K>> function = PrimitiveFunctions.aggregateDoubleByFunction(groupBy, zeroValue, aggregator);
+                batch.forEach(new Procedure<T>()
+                {
+                    public void value(T each)
+                    {
+                        function.value(batchResult, each);
+                    }
+                });
+                return batchResult;
+            }
+        };
+
+        Procedure2<ObjectDoubleHashMap<K>, ObjectDoubleHashMap<K>> combineProcedure = new Procedure2<ObjectDoubleHashMap<K>, ObjectDoubleHashMap<K>>()
+        {
+            public void value(final ObjectDoubleHashMap<K> result, ObjectDoubleHashMap<K> batchResult)
+            {
+                batchResult.forEachKeyValue(new ObjectDoubleProcedure<K>()
+                {
+                    public void value(K key, double batchValue)
+                    {
+                        result.put(key, result.containsKey(key) ? combiner.valueOf(result.get(key), batchValue) : batchValue);
+                    }
+                });
+            }
+        };
+
+        ObjectDoubleHashMap<K> state = ObjectDoubleHashMap.newMap();
+        this.collectCombine(map, combineProcedure, state);
+        return state;
+    }
+
     private long sumOfLongOrdered(final LongFunction<Batch<T>> map)
     {
         LazyIterable<? extends Batch<T>> chunks = this.split();
@@ -24,10 +24,16 @@ import com.gs.collections.api.bag.sorted.MutableSortedBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.DoubleDoubleToDoubleFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.DoubleObjectToDoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.IntIntToIntFunction;
+import com.gs.collections.api.block.function.primitive.IntObjectToIntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.LongLongToLongFunction;
+import com.gs.collections.api.block.function.primitive.LongObjectToLongFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
@@ -36,11 +42,19 @@ import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.list.ParallelListIterable;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableIntObjectMap;
+import com.gs.collections.api.map.primitive.MutableLongObjectMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.ParallelUnsortedSetIterable;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
 import com.gs.collections.api.set.sorted.ParallelSortedSetIterable;
+import com.gs.collections.api.statistics.primitive.DoubleSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.IntSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.LongSummaryStatistics;
 import com.gs.collections.impl.lazy.parallel.list.SynchronizedParallelListIterable;
 import com.gs.collections.impl.lazy.parallel.set.SynchronizedParallelUnsortedSetIterable;
 import com.gs.collections.impl.lazy.parallel.set.sorted.SynchronizedParallelSortedSetIterable;
@@ -404,6 +418,70 @@ public abstract class AbstractSynchronizedParallelIterable<T, PI extends Paralle
         }
     }
 
+    public IntSummaryStatistics summarizeInt(IntFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.summarizeInt(function);
+        }
+    }
+
+    public LongSummaryStatistics summarizeLong(LongFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.summarizeLong(function);
+        }
+    }
+
+    public DoubleSummaryStatistics summarizeDouble(DoubleFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.summarizeDouble(function);
+        }
+    }
+
+    public MutableIntObjectMap<MutableList<T>> groupByInt(IntFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.groupByInt(function);
+        }
+    }
+
+    public MutableLongObjectMap<MutableList<T>> groupByLong(LongFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.groupByLong(function);
+        }
+    }
+
+    public <K> ObjectIntMap<K> aggregateIntBy(Function<? super T, ? extends K> groupBy, int zeroValue, IntObjectToIntFunction<? super T> aggregator, IntIntToIntFunction combiner)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.aggregateIntBy(groupBy, zeroValue, aggregator, combiner);
+        }
+    }
+
+    public <K> ObjectLongMap<K> aggregateLongBy(Function<? super T, ? extends K> groupBy, long zeroValue, LongObjectToLongFunction<? super T> aggregator, LongLongToLongFunction combiner)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.aggregateLongBy(groupBy, zeroValue, aggregator, combiner);
+        }
+    }
+
+    public <K> ObjectDoubleMap<K> aggregateDoubleBy(Function<? super T, ? extends K> groupBy, double zeroValue, DoubleObjectToDoubleFunction<? super T> aggregator, DoubleDoubleToDoubleFunction combiner)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.aggregateDoubleBy(groupBy, zeroValue, aggregator, combiner);
+        }
+    }
+
     public String makeString()
     {
         synchronized (this.lock)
@@ -25,10 +25,16 @@ import com.gs.collections.api.bag.sorted.MutableSortedBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.DoubleDoubleToDoubleFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.DoubleObjectToDoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.IntIntToIntFunction;
+import com.gs.collections.api.block.function.primitive.IntObjectToIntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.LongLongToLongFunction;
+import com.gs.collections.api.block.function.primitive.LongObjectToLongFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
@@ -36,9 +42,17 @@ import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableIntObjectMap;
+import com.gs.collections.api.map.primitive.MutableLongObjectMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.primitive.DoubleSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.IntSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.LongSummaryStatistics;
 
 public abstract class NonParallelIterable<T, RI extends RichIterable<T>> implements ParallelIterable<T>
 {
@@ -254,6 +268,46 @@ public abstract class NonParallelIterable<T, RI extends RichIterable<T>> impleme
         return this.delegate.sumOfDouble(function);
     }
 
+    public IntSummaryStatistics summarizeInt(IntFunction<? super T> function)
+    {
+        return this.delegate.summarizeInt(function);
+    }
+
+    public LongSummaryStatistics summarizeLong(LongFunction<? super T> function)
+    {
+        return this.delegate.summarizeLong(function);
+    }
+
+    public DoubleSummaryStatistics summarizeDouble(DoubleFunction<? super T> function)
+    {
+        return this.delegate.summarizeDouble(function);
+    }
+
+    public MutableIntObjectMap<MutableList<T>> groupByInt(IntFunction<? super T> function)
+    {
+        return this.delegate.groupByInt(function);
+    }
+
+    public MutableLongObjectMap<MutableList<T>> groupByLong(LongFunction<? super T> function)
+    {
+        return this.delegate.groupByLong(function);
+    }
+
+    public <K> ObjectIntMap<K> aggregateIntBy(Function<? super T, ? extends K> groupBy, int zeroValue, IntObjectToIntFunction<? super T> aggregator, IntIntToIntFunction combiner)
+    {
+        return this.delegate.aggregateIntBy(groupBy, zeroValue, aggregator, combiner);
+    }
+
+    public <K> ObjectLongMap<K> aggregateLongBy(Function<? super T, ? extends K> groupBy, long zeroValue, LongObjectToLongFunction<? super T> aggregator, LongLongToLongFunction combiner)
+    {
+        return this.delegate.aggregateLongBy(groupBy, zeroValue, aggregator, combiner);
+    }
+
+    public <K> ObjectDoubleMap<K> aggregateDoubleBy(Function<? super T, ? extends K> groupBy, double zeroValue, DoubleObjectToDoubleFunction<? super T> aggregator, DoubleDoubleToDoubleFunction combiner)
+    {
+        return this.delegate.aggregateDoubleBy(groupBy, zeroValue, aggregator, combiner);
+    }
+
     @Override
     public String toString()
     {
@@ -28,6 +28,8 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.RandomAccess;
 
+import com.gs.collections.api.IntIterable;
+import com.gs.collections.api.LongIterable;
 import com.gs.collections.api.block.HashingStrategy;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
@@ -68,6 +70,8 @@ import com.gs.collections.api.list.primitive.MutableIntList;
 import com.gs.collections.api.list.primitive.MutableLongList;
 import com.gs.collections.api.list.primitive.MutableShortList;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableIntObjectMap;
+import com.gs.collections.api.map.primitive.MutableLongObjectMap;
 import com.gs.collections.api.map.primitive.ObjectDoubleMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.multimap.MutableMultimap;
@@ -1302,6 +1306,30 @@ public class FastList<T>
         return InternalArrayIterate.sumOfDouble(this.items, this.size, function);
     }
 
+    @Override
+    public <R extends MutableIntCollection> R flatCollectInt(Function<? super T, ? extends IntIterable> function, R target)
+    {
+        return InternalArrayIterate.flatCollectInt(this.items, this.size, function, target);
+    }
+
+    @Override
+    public <R extends MutableLongCollection> R flatCollectLong(Function<? super T, ? extends LongIterable> function, R target)
+    {
+        return InternalArrayIterate.flatCollectLong(this.items, this.size, function, target);
+    }
+
+    @Override
+    public MutableIntObjectMap<MutableList<T>> groupByInt(IntFunction<? super T> function)
+    {
+        return InternalArrayIterate.groupByInt(this.items, this.size, function);
+    }
+
+    @Override
+    public MutableLongObjectMap<MutableList<T>> groupByLong(LongFunction<? super T> function)
+    {
+        return InternalArrayIterate.groupByLong(this.items, this.size, function);
+    }
+
     @Override
     public <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function)
     {
@@ -19,15 +19,21 @@ package com.gs.collections.impl.list.primitive;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.IntIterable;
 import com.gs.collections.api.LazyIntIterable;
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.ParallelIntIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.primitive.MutableIntBag;
 import com.gs.collections.api.block.function.primitive.IntToObjectFunction;
 import com.gs.collections.api.block.function.primitive.ObjectIntIntToObjectFunction;
 import com.gs.collections.api.block.function.primitive.ObjectIntToObjectFunction;
 import com.gs.collections.api.block.predicate.primitive.IntPredicate;
+import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.primitive.IntIntProcedure;
 import com.gs.collections.api.block.procedure.primitive.IntProcedure;
 import com.gs.collections.api.iterator.IntIterator;
@@ -36,14 +42,20 @@ import com.gs.collections.api.list.primitive.ImmutableIntList;
 import com.gs.collections.api.list.primitive.IntList;
 import com.gs.collections.api.list.primitive.MutableIntList;
 import com.gs.collections.api.set.primitive.MutableIntSet;
+import com.gs.collections.api.statistics.primitive.IntSummaryStatistics;
 import com.gs.collections.impl.bag.mutable.primitive.IntHashBag;
 import com.gs.collections.impl.block.factory.primitive.IntPredicates;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.AbstractIntBatch;
+import com.gs.collections.impl.lazy.parallel.primitive.AbstractParallelIntIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.RootIntBatch;
 import com.gs.collections.impl.lazy.primitive.CollectIntToObjectIterable;
 import com.gs.collections.impl.lazy.primitive.LazyIntIterableAdapter;
 import com.gs.collections.impl.lazy.primitive.ReverseIntIterable;
 import com.gs.collections.impl.lazy.primitive.SelectIntIterable;
 import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
 import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import com.gs.collections.impl.statistics.primitive.IntSummaryStatisticsAccumulator;
 
 /**
  * An IntInterval is a range of ints that may be iterated over using a step value.
@@ -761,15 +773,59 @@ public final class IntInterval
 
     public double median()
     {
-        int[] sortedArray = this.toSortedArray();
-        int middleIndex = sortedArray.length >> 1;
-        if (sortedArray.length > 1 && (sortedArray.length & 1) == 0)
+        int size = this.size();
+        int middleIndex = size >> 1;
+        if (size > 1 && (size & 1) == 0)
         {
-            int first = sortedArray[middleIndex];
-            int second = sortedArray[middleIndex - 1];
+            int first = this.sortedValueAt(middleIndex);
+            int second = this.sortedValueAt(middleIndex - 1);
             return ((double) first + (double) second) / 2.0;
         }
-        return (double) sortedArray[middleIndex];
+        return (double) this.sortedValueAt(middleIndex);
+    }
+
+    public double percentile(double percentile)
+    {
+        if (!(percentile >= 0.0 && percentile <= 100.0))
+        {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100 but was " + percentile);
+        }
+        return this.quantiles(percentile / 100.0)[0];
+    }
+
+    public double[] quantiles(double... quantiles)
+    {
+        int size = this.size();
+        double[] result = new double[quantiles.length];
+        for (int i = 0; i < quantiles.length; i++)
+        {
+            double quantile = quantiles[i];
+            if (!(quantile >= 0.0 && quantile <= 1.0))
+            {
+                throw new IllegalArgumentException("Quantile must be between 0 and 1 but was " + quantile);
+            }
+            double position = quantile * (size - 1);
+            int lowerRank = (int) Math.floor(position);
+            double fraction = position - lowerRank;
+            double lower = (double) this.sortedValueAt(lowerRank);
+            result[i] = fraction == 0.0 ? lower : lower + ((double) this.sortedValueAt(lowerRank + 1) - lower) * fraction;
+        }
+        return result;
+    }
+
+    public IntSummaryStatistics summaryStatistics()
+    {
+        IntSummaryStatisticsAccumulator statistics = new IntSummaryStatisticsAccumulator();
+        this.forEach(statistics);
+        return statistics;
+    }
+
+    /**
+     * Returns the element that would be at the given index if this interval were sorted, without sorting it.
+     */
+    private int sortedValueAt(int rank)
+    {
+        return this.locationAfterN(this.step > 0 ? rank : this.size() - 1 - rank);
     }
 
     public int binarySearch(int value)
@@ -846,6 +902,180 @@ public final class IntInterval
         return IntArrayList.newList(this).withoutAll(elements).toImmutable();
     }
 
+    /**
+     * @since 7.0.
+     */
+    @Beta
+    public ParallelIntIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new IntIntervalParallelIterable(executorService, batchSize);
+    }
+
+    /**
+     * A batch over a range of indices of the interval. The values are computed from the index, so no batch needs to
+     * visit the values that come before it.
+     */
+    private final class IntIntervalBatch extends AbstractIntBatch implements RootIntBatch
+    {
+        private final int chunkStartIndex;
+        private final int chunkEndIndex;
+
+        private IntIntervalBatch(int chunkStartIndex, int chunkEndIndex)
+        {
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+        }
+
+        public void forEach(IntProcedure procedure)
+        {
+            int value = IntInterval.this.locationAfterN(this.chunkStartIndex);
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                procedure.value(value);
+                value += IntInterval.this.step;
+            }
+        }
+
+        public boolean anySatisfy(IntPredicate predicate)
+        {
+            int value = IntInterval.this.locationAfterN(this.chunkStartIndex);
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                if (predicate.accept(value))
+                {
+                    return true;
+                }
+                value += IntInterval.this.step;
+            }
+            return false;
+        }
+
+        public boolean allSatisfy(IntPredicate predicate)
+        {
+            return !this.anySatisfy(IntPredicates.not(predicate));
+        }
+
+        public int detectIfNone(IntPredicate predicate, int ifNone)
+        {
+            int value = IntInterval.this.locationAfterN(this.chunkStartIndex);
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                if (predicate.accept(value))
+                {
+                    return value;
+                }
+                value += IntInterval.this.step;
+            }
+            return ifNone;
+        }
+    }
+
+    private final class IntIntervalParallelIterable extends AbstractParallelIntIterable<RootIntBatch>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private IntIntervalParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        protected boolean isOrdered()
+        {
+            return true;
+        }
+
+        @Override
+        public LazyIterable<RootIntBatch> split()
+        {
+            return new IntIntervalParallelSplitLazyIterable();
+        }
+
+        public void forEach(IntProcedure procedure)
+        {
+            AbstractParallelIntIterable.forEach(this, procedure);
+        }
+
+        public boolean anySatisfy(IntPredicate predicate)
+        {
+            return AbstractParallelIntIterable.anySatisfy(this, predicate);
+        }
+
+        public boolean allSatisfy(IntPredicate predicate)
+        {
+            return AbstractParallelIntIterable.allSatisfy(this, predicate);
+        }
+
+        public int detectIfNone(IntPredicate predicate, int ifNone)
+        {
+            return AbstractParallelIntIterable.detectIfNone(this, predicate, ifNone);
+        }
+
+        private class IntIntervalParallelSplitIterator implements Iterator<RootIntBatch>
+        {
+            private final int size = IntInterval.this.size();
+            protected int chunkIndex;
+
+            public boolean hasNext()
+            {
+                return (long) this.chunkIndex * IntIntervalParallelIterable.this.batchSize < this.size;
+            }
+
+            public RootIntBatch next()
+            {
+                int chunkStartIndex = this.chunkIndex * IntIntervalParallelIterable.this.batchSize;
+                long chunkEndIndex = (long) (this.chunkIndex + 1) * IntIntervalParallelIterable.this.batchSize;
+                int truncatedChunkEndIndex = (int) Math.min(chunkEndIndex, this.size);
+                this.chunkIndex++;
+                return new IntIntervalBatch(chunkStartIndex, truncatedChunkEndIndex);
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+
+        private class IntIntervalParallelSplitLazyIterable
+                extends AbstractLazyIterable<RootIntBatch>
+        {
+            public void each(Procedure<? super RootIntBatch> procedure)
+            {
+                for (RootIntBatch chunk : this)
+                {
+                    procedure.value(chunk);
+                }
+            }
+
+            public Iterator<RootIntBatch> iterator()
+            {
+                return new IntIntervalParallelSplitIterator();
+            }
+        }
+    }
+
     private class IntIntervalIterator implements IntIterator
     {
         private int current = IntInterval.this.from;
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable.primitive;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A file mapped into memory as a sequence of {@link MappedByteBuffer}s, so that files larger than 2GB can be addressed
+ * with a long position. Segments are 1GB and every value is read at a position aligned to its own size, so no value
+ * ever straddles two segments. All values are little-endian.
+ *
+ * @since 7.0.
+ */
+final class MappedRegion
+{
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1L;
+
+    private final MappedByteBuffer[] segments;
+    private final long size;
+
+    private MappedRegion(MappedByteBuffer[] segments, long size)
+    {
+        this.segments = segments;
+        this.size = size;
+    }
+
+    /**
+     * Maps the whole of an existing file read-only.
+     */
+    static MappedRegion readOnly(File file) throws IOException
+    {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try
+        {
+            return MappedRegion.map(randomAccessFile.getChannel(), FileChannel.MapMode.READ_ONLY, randomAccessFile.length());
+        }
+        finally
+        {
+            randomAccessFile.close();
+        }
+    }
+
+    /**
+     * Creates or truncates the file, extends it with zeros to size bytes, and maps it read-write.
+     */
+    static MappedRegion create(File file, long size) throws IOException
+    {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try
+        {
+            randomAccessFile.setLength(0L);
+            randomAccessFile.setLength(size);
+            return MappedRegion.map(randomAccessFile.getChannel(), FileChannel.MapMode.READ_WRITE, size);
+        }
+        finally
+        {
+            randomAccessFile.close();
+        }
+    }
+
+    private static MappedRegion map(FileChannel channel, FileChannel.MapMode mode, long size) throws IOException
+    {
+        int segmentCount = (int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++)
+        {
+            long start = (long) i << SEGMENT_SHIFT;
+            segments[i] = channel.map(mode, start, Math.min(SEGMENT_SIZE, size - start));
+            segments[i].order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return new MappedRegion(segments, size);
+    }
+
+    long size()
+    {
+        return this.size;
+    }
+
+    void force()
+    {
+        for (MappedByteBuffer segment : this.segments)
+        {
+            segment.force();
+        }
+    }
+
+    private MappedByteBuffer segment(long position)
+    {
+        return this.segments[(int) (position >>> SEGMENT_SHIFT)];
+    }
+
+    private static int offset(long position)
+    {
+        return (int) (position & SEGMENT_MASK);
+    }
+
+    byte getByte(long position)
+    {
+        return this.segment(position).get(offset(position));
+    }
+
+    void putByte(long position, byte value)
+    {
+        this.segment(position).put(offset(position), value);
+    }
+
+    short getShort(long position)
+    {
+        return this.segment(position).getShort(offset(position));
+    }
+
+    void putShort(long position, short value)
+    {
+        this.segment(position).putShort(offset(position), value);
+    }
+
+    char getChar(long position)
+    {
+        return this.segment(position).getChar(offset(position));
+    }
+
+    void putChar(long position, char value)
+    {
+        this.segment(position).putChar(offset(position), value);
+    }
+
+    int getInt(long position)
+    {
+        return this.segment(position).getInt(offset(position));
+    }
+
+    void putInt(long position, int value)
+    {
+        this.segment(position).putInt(offset(position), value);
+    }
+
+    long getLong(long position)
+    {
+        return this.segment(position).getLong(offset(position));
+    }
+
+    void putLong(long position, long value)
+    {
+        this.segment(position).putLong(offset(position), value);
+    }
+
+    float getFloat(long position)
+    {
+        return this.segment(position).getFloat(offset(position));
+    }
+
+    void putFloat(long position, float value)
+    {
+        this.segment(position).putFloat(offset(position), value);
+    }
+
+    double getDouble(long position)
+    {
+        return this.segment(position).getDouble(offset(position));
+    }
+
+    void putDouble(long position, double value)
+    {
+        this.segment(position).putDouble(offset(position), value);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable.primitive;
+
+/**
+ * Builds and evaluates minimal perfect hash functions over a fixed set of distinct 64 bit keys using hash and
+ * displace: keys are first split into buckets of about {@value #KEYS_PER_BUCKET}, and then, largest bucket first, each
+ * bucket is given the first seed that sends all of its keys to distinct free slots. The function maps n keys onto the
+ * slots 0 to n - 1 with no collisions and costs one int seed per bucket.
+ *
+ * @since 7.0.
+ */
+final class MinimalPerfectHash
+{
+    private static final int KEYS_PER_BUCKET = 4;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private MinimalPerfectHash()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    static int bucketCount(int size)
+    {
+        return Math.max(1, (size + KEYS_PER_BUCKET - 1) / KEYS_PER_BUCKET);
+    }
+
+    static int slot(long key, int[] seeds, int size)
+    {
+        return MinimalPerfectHash.hash(key, seeds[MinimalPerfectHash.hash(key, 0, seeds.length)] + 1, size);
+    }
+
+    private static int hash(long key, int seed, int range)
+    {
+        long h = key + seed * GOLDEN_RATIO;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return (int) ((h >>> 1) % range);
+    }
+
+    /**
+     * Returns the seed of each bucket, or null if no seed could be found for some bucket within a bounded search, which
+     * is vanishingly unlikely for distinct keys.
+     */
+    static int[] build(long[] keys)
+    {
+        int size = keys.length;
+        int bucketCount = MinimalPerfectHash.bucketCount(size);
+
+        int[] bucketStarts = new int[bucketCount + 1];
+        int[] keyBuckets = new int[size];
+        for (int i = 0; i < size; i++)
+        {
+            keyBuckets[i] = MinimalPerfectHash.hash(keys[i], 0, bucketCount);
+            bucketStarts[keyBuckets[i] + 1]++;
+        }
+        int maxBucketSize = 0;
+        for (int i = 0; i < bucketCount; i++)
+        {
+            maxBucketSize = Math.max(maxBucketSize, bucketStarts[i + 1]);
+            bucketStarts[i + 1] += bucketStarts[i];
+        }
+        int[] keysByBucket = new int[size];
+        int[] fill = new int[bucketCount];
+        for (int i = 0; i < size; i++)
+        {
+            int bucket = keyBuckets[i];
+            keysByBucket[bucketStarts[bucket] + fill[bucket]] = i;
+            fill[bucket]++;
+        }
+
+        // counting sort of the buckets by descending size, so that the hardest buckets are placed while the table is emptiest
+        int[] sizeStarts = new int[maxBucketSize + 2];
+        for (int i = 0; i < bucketCount; i++)
+        {
+            sizeStarts[maxBucketSize - (bucketStarts[i + 1] - bucketStarts[i]) + 1]++;
+        }
+        for (int i = 0; i <= maxBucketSize; i++)
+        {
+            sizeStarts[i + 1] += sizeStarts[i];
+        }
+        int[] bucketOrder = new int[bucketCount];
+        for (int i = 0; i < bucketCount; i++)
+        {
+            int rank = maxBucketSize - (bucketStarts[i + 1] - bucketStarts[i]);
+            bucketOrder[sizeStarts[rank]] = i;
+            sizeStarts[rank]++;
+        }
+
+        long maxSeed = Math.max(1L << 16, (long) size << 4);
+        boolean[] taken = new boolean[size];
+        int[] seeds = new int[bucketCount];
+        int[] slots = new int[maxBucketSize];
+        for (int bucket : bucketOrder)
+        {
+            int start = bucketStarts[bucket];
+            int bucketSize = bucketStarts[bucket + 1] - start;
+            if (bucketSize == 0)
+            {
+                break;
+            }
+            int seed = 0;
+            while (!MinimalPerfectHash.tryPlace(keys, keysByBucket, start, bucketSize, seed, taken, slots))
+            {
+                seed++;
+                if (seed > maxSeed)
+                {
+                    return null;
+                }
+            }
+            seeds[bucket] = seed;
+        }
+        return seeds;
+    }
+
+    private static boolean tryPlace(long[] keys, int[] keysByBucket, int start, int bucketSize, int seed, boolean[] taken, int[] slots)
+    {
+        int size = taken.length;
+        for (int i = 0; i < bucketSize; i++)
+        {
+            int slot = MinimalPerfectHash.hash(keys[keysByBucket[start + i]], seed + 1, size);
+            if (taken[slot])
+            {
+                return false;
+            }
+            for (int j = 0; j < i; j++)
+            {
+                if (slots[j] == slot)
+                {
+                    return false;
+                }
+            }
+            slots[i] = slot;
+        }
+        for (int i = 0; i < bucketSize; i++)
+        {
+            taken[slots[i]] = true;
+        }
+        return true;
+    }
+}
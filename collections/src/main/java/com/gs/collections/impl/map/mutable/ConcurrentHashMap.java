@@ -23,6 +23,7 @@ import java.io.ObjectOutput;
 import java.util.AbstractCollection;
 import java.util.AbstractSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.List;
@@ -41,6 +42,7 @@ import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.function.Function3;
+import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
@@ -1195,90 +1197,142 @@ public final class ConcurrentHashMap<K, V>
 
     public void parallelForEachKeyValue(List<Procedure2<K, V>> blocks, Executor executor)
     {
-        final AtomicReferenceArray currentArray = this.table;
-        int chunks = blocks.size();
-        if (chunks > 1)
+        this.parallelForEachKeyValueInRanges(blocks, executor, "parallelForEachKeyValue");
+    }
+
+    /**
+     * Executes the procedure for each key and value in parallel. The buckets of the table are split into taskCount
+     * ranges that are traversed by tasks on the executor. A task that reaches a bucket moved by a concurrent resize
+     * helps the resize and continues in the buckets of the next table, so every entry present for the whole call is
+     * visited exactly once. The procedure must be thread-safe.
+     */
+    public void parallelForEachKeyValue(Procedure2<? super K, ? super V> procedure, int taskCount, Executor executor)
+    {
+        this.parallelForEachKeyValueInRanges(Collections.nCopies(taskCount, procedure), executor, "parallelForEachKeyValue");
+    }
+
+    /**
+     * Folds the entries of each range of buckets into a value started from zeroValueFactory, then merges the values of
+     * the ranges with the combiner. Only the combiner sees results of more than one task, so neither function needs to
+     * be thread-safe.
+     */
+    public <R> R parallelReduce(
+            Function0<? extends R> zeroValueFactory,
+            Function3<? super R, ? super K, ? super V, ? extends R> accumulator,
+            Function2<? super R, ? super R, ? extends R> combiner,
+            int taskCount,
+            Executor executor)
+    {
+        List<ReduceProcedure<K, V, R>> procedures = FastList.newList(taskCount);
+        for (int i = 0; i < taskCount; i++)
         {
-            FutureTask<?>[] futures = new FutureTask<?>[chunks];
-            int chunkSize = currentArray.length() / chunks;
-            if (currentArray.length() % chunks != 0)
-            {
-                chunkSize++;
-            }
-            for (int i = 0; i < chunks; i++)
-            {
-                final int start = i * chunkSize;
-                final int end = Math.min((i + 1) * chunkSize, currentArray.length());
-                final Procedure2<K, V> block = blocks.get(i);
-                futures[i] = new FutureTask(new Runnable()
-                {
-                    public void run()
-                    {
-                        ConcurrentHashMap.this.sequentialForEachKeyValue(block, currentArray, start, end);
-                    }
-                }, null);
-                executor.execute(futures[i]);
-            }
-            for (int i = 0; i < chunks; i++)
-            {
-                try
-                {
-                    futures[i].get();
-                }
-                catch (Exception e)
-                {
-                    throw new RuntimeException("parallelForEachKeyValue failed", e);
-                }
-            }
+            procedures.add(new ReduceProcedure<K, V, R>(zeroValueFactory.value(), accumulator));
         }
-        else
+        this.parallelForEachKeyValueInRanges(procedures, executor, "parallelReduce");
+        R result = procedures.get(0).result;
+        for (int i = 1; i < procedures.size(); i++)
         {
-            this.sequentialForEachKeyValue(blocks.get(0), currentArray, 0, currentArray.length());
+            result = combiner.value(result, procedures.get(i).result);
         }
+        return result;
     }
 
-    private void sequentialForEachKeyValue(Procedure2<K, V> block, AtomicReferenceArray currentArray, int start, int end)
+    /**
+     * Adds the values whose entries satisfy the predicate to target. Each task selects into its own list, and the
+     * lists are added to target by the calling thread, so target does not need to be thread-safe.
+     */
+    public <R extends Collection<V>> R parallelSelectValues(
+            Predicate2<? super K, ? super V> predicate,
+            R target,
+            int taskCount,
+            Executor executor)
     {
-        for (int i = start; i < end; i++)
+        List<SelectValuesProcedure<K, V>> procedures = FastList.newList(taskCount);
+        for (int i = 0; i < taskCount; i++)
         {
-            Object o = currentArray.get(i);
-            if (o == RESIZED || o == RESIZING)
-            {
-                throw new ConcurrentModificationException("can't iterate while resizing!");
-            }
-            Entry<K, V> e = (Entry<K, V>) o;
-            while (e != null)
+            procedures.add(new SelectValuesProcedure<K, V>(predicate));
+        }
+        this.parallelForEachKeyValueInRanges(procedures, executor, "parallelSelectValues");
+        for (SelectValuesProcedure<K, V> procedure : procedures)
+        {
+            target.addAll(procedure.result);
+        }
+        return target;
+    }
+
+    /**
+     * Adds the result of the function for each key and value to target. Each task collects into its own list, and the
+     * lists are added to target by the calling thread, so target does not need to be thread-safe.
+     */
+    public <VV, R extends Collection<VV>> R parallelCollect(
+            Function2<? super K, ? super V, ? extends VV> function,
+            R target,
+            int taskCount,
+            Executor executor)
+    {
+        List<CollectProcedure<K, V, VV>> procedures = FastList.newList(taskCount);
+        for (int i = 0; i < taskCount; i++)
+        {
+            procedures.add(new CollectProcedure<K, V, VV>(function));
+        }
+        this.parallelForEachKeyValueInRanges(procedures, executor, "parallelCollect");
+        for (CollectProcedure<K, V, VV> procedure : procedures)
+        {
+            target.addAll(procedure.result);
+        }
+        return target;
+    }
+
+    /**
+     * Same result as {@link #aggregateBy(Function, Function0, Function2)} over the values, computed by parallel tasks
+     * that update a shared ConcurrentHashMap.
+     */
+    public <KK, VV> MutableMap<KK, VV> parallelAggregateBy(
+            final Function<? super V, ? extends KK> groupBy,
+            final Function0<? extends VV> zeroValueFactory,
+            final Function2<? super VV, ? super V, ? extends VV> nonMutatingAggregator,
+            int taskCount,
+            Executor executor)
+    {
+        final ConcurrentHashMap<KK, VV> result = ConcurrentHashMap.newMap();
+        this.parallelForEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
             {
-                Object key = e.getKey();
-                Object value = e.getValue();
-                block.value((K) key, (V) value);
-                e = e.getNext();
+                result.<V>updateValueWith(groupBy.valueOf(value), zeroValueFactory, nonMutatingAggregator, value);
             }
-        }
+        }, taskCount, executor);
+        return result;
     }
 
-    public void parallelForEachValue(List<Procedure<V>> blocks, Executor executor)
+    private void parallelForEachKeyValueInRanges(List<? extends Procedure2<? super K, ? super V>> blocks, Executor executor, String operation)
     {
         final AtomicReferenceArray currentArray = this.table;
+        // The last slot holds the resize sentinel, not a bucket
+        int capacity = currentArray.length() - 1;
         int chunks = blocks.size();
+        if (chunks == 0)
+        {
+            throw new IllegalArgumentException(operation + " needs at least one task");
+        }
         if (chunks > 1)
         {
             FutureTask<?>[] futures = new FutureTask<?>[chunks];
-            int chunkSize = currentArray.length() / chunks;
-            if (currentArray.length() % chunks != 0)
+            int chunkSize = capacity / chunks;
+            if (capacity % chunks != 0)
             {
                 chunkSize++;
             }
             for (int i = 0; i < chunks; i++)
             {
-                final int start = i * chunkSize;
-                final int end = Math.min((i + 1) * chunkSize, currentArray.length() - 1);
-                final Procedure<V> block = blocks.get(i);
+                final int start = Math.min(i * chunkSize, capacity);
+                final int end = Math.min(start + chunkSize, capacity);
+                final Procedure2<? super K, ? super V> block = blocks.get(i);
                 futures[i] = new FutureTask(new Runnable()
                 {
                     public void run()
                     {
-                        ConcurrentHashMap.this.sequentialForEachValue(block, currentArray, start, end);
+                        ConcurrentHashMap.this.sequentialForEachKeyValue(block, currentArray, start, end);
                     }
                 }, null);
                 executor.execute(futures[i]);
@@ -1291,35 +1345,56 @@ public final class ConcurrentHashMap<K, V>
                 }
                 catch (Exception e)
                 {
-                    throw new RuntimeException("parallelForEachKeyValue failed", e);
+                    throw new RuntimeException(operation + " failed", e);
                 }
             }
         }
         else
         {
-            this.sequentialForEachValue(blocks.get(0), currentArray, 0, currentArray.length());
+            this.sequentialForEachKeyValue(blocks.get(0), currentArray, 0, capacity);
         }
     }
 
-    private void sequentialForEachValue(Procedure<V> block, AtomicReferenceArray currentArray, int start, int end)
+    private void sequentialForEachKeyValue(Procedure2<? super K, ? super V> block, AtomicReferenceArray currentArray, int start, int end)
     {
         for (int i = start; i < end; i++)
         {
             Object o = currentArray.get(i);
             if (o == RESIZED || o == RESIZING)
             {
-                throw new ConcurrentModificationException("can't iterate while resizing!");
+                // The entries of bucket i moved to buckets i, i + oldCapacity, ... of the next table
+                AtomicReferenceArray nextArray = this.helpWithResizeWhileCurrentIndex(currentArray, i);
+                int oldCapacity = currentArray.length() - 1;
+                int newCapacity = nextArray.length() - 1;
+                for (int j = i; j < newCapacity; j += oldCapacity)
+                {
+                    this.sequentialForEachKeyValue(block, nextArray, j, j + 1);
+                }
             }
-            Entry<K, V> e = (Entry<K, V>) o;
-            while (e != null)
+            else
             {
-                Object value = e.getValue();
-                block.value((V) value);
-                e = e.getNext();
+                Entry<K, V> e = (Entry<K, V>) o;
+                while (e != null)
+                {
+                    Object key = e.getKey();
+                    Object value = e.getValue();
+                    block.value((K) key, (V) value);
+                    e = e.getNext();
+                }
             }
         }
     }
 
+    public void parallelForEachValue(List<Procedure<V>> blocks, Executor executor)
+    {
+        List<ValueProcedure<K, V>> procedures = FastList.newList(blocks.size());
+        for (Procedure<V> block : blocks)
+        {
+            procedures.add(new ValueProcedure<K, V>(block));
+        }
+        this.parallelForEachKeyValueInRanges(procedures, executor, "parallelForEachValue");
+    }
+
     @Override
     public int hashCode()
     {
@@ -1778,6 +1853,81 @@ public final class ConcurrentHashMap<K, V>
         }
     }
 
+    private static final class ReduceProcedure<K, V, R> implements Procedure2<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Function3<? super R, ? super K, ? super V, ? extends R> accumulator;
+        private R result;
+
+        private ReduceProcedure(R zeroValue, Function3<? super R, ? super K, ? super V, ? extends R> accumulator)
+        {
+            this.result = zeroValue;
+            this.accumulator = accumulator;
+        }
+
+        public void value(K key, V value)
+        {
+            this.result = this.accumulator.value(this.result, key, value);
+        }
+    }
+
+    private static final class SelectValuesProcedure<K, V> implements Procedure2<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate2<? super K, ? super V> predicate;
+        private final FastList<V> result = FastList.newList();
+
+        private SelectValuesProcedure(Predicate2<? super K, ? super V> predicate)
+        {
+            this.predicate = predicate;
+        }
+
+        public void value(K key, V value)
+        {
+            if (this.predicate.accept(key, value))
+            {
+                this.result.add(value);
+            }
+        }
+    }
+
+    private static final class CollectProcedure<K, V, VV> implements Procedure2<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Function2<? super K, ? super V, ? extends VV> function;
+        private final FastList<VV> result = FastList.newList();
+
+        private CollectProcedure(Function2<? super K, ? super V, ? extends VV> function)
+        {
+            this.function = function;
+        }
+
+        public void value(K key, V value)
+        {
+            this.result.add(this.function.value(key, value));
+        }
+    }
+
+    private static final class ValueProcedure<K, V> implements Procedure2<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Procedure<V> block;
+
+        private ValueProcedure(Procedure<V> block)
+        {
+            this.block = block;
+        }
+
+        public void value(K key, V value)
+        {
+            this.block.value(value);
+        }
+    }
+
     private static final class ResizeContainer
     {
         private static final int QUEUE_INCREMENT = Math.min(1 << 10, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) << 4);
@@ -39,6 +39,7 @@ import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.MapCursor;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.api.map.UnsortedMapIterable;
@@ -1266,6 +1267,17 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         return new EntrySet();
     }
 
+    /**
+     * Returns a cursor over the entries of this map. Unlike the {@link #entrySet()} iterator, the cursor does not
+     * create an entry object per mapping.
+     *
+     * @since 7.0
+     */
+    public MapCursor<K, V> cursor()
+    {
+        return new EntryCursor();
+    }
+
     public Set<K> keySet()
     {
         return new KeySet();
@@ -2604,6 +2616,82 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         }
     }
 
+    protected class EntryCursor implements MapCursor<K, V>
+    {
+        private int position = -2;
+        private Object[] chain;
+        private int chainPosition;
+        private boolean positioned;
+
+        public boolean advance()
+        {
+            if (this.chain != null)
+            {
+                this.chainPosition += 2;
+                if (this.chainPosition < this.chain.length && this.chain[this.chainPosition] != null)
+                {
+                    return true;
+                }
+                this.chain = null;
+            }
+            Object[] table = UnifiedMap.this.table;
+            while ((this.position += 2) < table.length)
+            {
+                Object cur = table[this.position];
+                if (cur == CHAINED_KEY)
+                {
+                    this.chain = (Object[]) table[this.position + 1];
+                    this.chainPosition = 0;
+                    this.positioned = true;
+                    return true;
+                }
+                if (cur != null)
+                {
+                    this.positioned = true;
+                    return true;
+                }
+            }
+            this.position = table.length;
+            this.positioned = false;
+            return false;
+        }
+
+        public K key()
+        {
+            this.checkPositioned();
+            return this.chain == null
+                    ? UnifiedMap.this.nonSentinel(UnifiedMap.this.table[this.position])
+                    : UnifiedMap.this.nonSentinel(this.chain[this.chainPosition]);
+        }
+
+        public V value()
+        {
+            this.checkPositioned();
+            return (V) (this.chain == null ? UnifiedMap.this.table[this.position + 1] : this.chain[this.chainPosition + 1]);
+        }
+
+        public void setValue(V value)
+        {
+            this.checkPositioned();
+            if (this.chain == null)
+            {
+                UnifiedMap.this.table[this.position + 1] = value;
+            }
+            else
+            {
+                this.chain[this.chainPosition + 1] = value;
+            }
+        }
+
+        private void checkPositioned()
+        {
+            if (!this.positioned)
+            {
+                throw new IllegalStateException("advance() must return true before the current entry is accessed");
+            }
+        }
+    }
+
     protected class EntrySetIterator extends PositionalIterator<Entry<K, V>>
     {
         private final WeakReference<UnifiedMap<K, V>> holder;
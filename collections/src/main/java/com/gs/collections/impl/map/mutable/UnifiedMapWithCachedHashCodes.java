@@ -0,0 +1,899 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.map.MapCursor;
+import com.gs.collections.api.map.MapIterable;
+import com.gs.collections.api.map.MutableMap;
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * UnifiedMapWithCachedHashCodes is a MutableMap for keys with expensive hashCode and equals methods, such as long
+ * Strings or composite tuple keys. Like {@link UnifiedMap}, it does not create an entry object per mapping. The keys,
+ * the values and the spread hash code of each key are held in parallel arrays, and the keys that fall into the same
+ * bucket are chained through an array of indices. A lookup compares the stored hash codes before calling equals, so
+ * equals is only called on keys that are very likely to match. Growing the map rebuilds the buckets from the stored
+ * hash codes, without calling hashCode again.
+ * <p>
+ * Each mapping costs two more ints than in UnifiedMap, so UnifiedMap remains the better choice for keys with cheap
+ * hashCode and equals methods.
+ *
+ * @since 7.0
+ */
+@NotThreadSafe
+@SuppressWarnings("ObjectEquality")
+public class UnifiedMapWithCachedHashCodes<K, V> extends AbstractMutableMap<K, V>
+        implements Externalizable
+{
+    protected static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    protected static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    private static final int NO_ENTRY = -1;
+
+    private static final long serialVersionUID = 1L;
+
+    protected transient Object[] keys;
+
+    protected transient Object[] values;
+
+    protected transient int[] hashes;
+
+    protected transient int[] next;
+
+    protected transient int[] buckets;
+
+    protected transient int occupied;
+
+    protected float loadFactor = DEFAULT_LOAD_FACTOR;
+
+    public UnifiedMapWithCachedHashCodes()
+    {
+        this.allocate(DEFAULT_INITIAL_CAPACITY << 1);
+    }
+
+    public UnifiedMapWithCachedHashCodes(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public UnifiedMapWithCachedHashCodes(int initialCapacity, float loadFactor)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        if (loadFactor <= 0.0)
+        {
+            throw new IllegalArgumentException("load factor cannot be less than or equal to 0");
+        }
+        if (loadFactor > 1.0)
+        {
+            throw new IllegalArgumentException("load factor cannot be greater than 1");
+        }
+
+        this.loadFactor = loadFactor;
+        this.init((int) Math.ceil(initialCapacity / loadFactor));
+    }
+
+    public UnifiedMapWithCachedHashCodes(Map<? extends K, ? extends V> map)
+    {
+        this(Math.max(map.size(), DEFAULT_INITIAL_CAPACITY), DEFAULT_LOAD_FACTOR);
+
+        this.putAll(map);
+    }
+
+    public static <K, V> UnifiedMapWithCachedHashCodes<K, V> newMap()
+    {
+        return new UnifiedMapWithCachedHashCodes<K, V>();
+    }
+
+    public static <K, V> UnifiedMapWithCachedHashCodes<K, V> newMap(int size)
+    {
+        return new UnifiedMapWithCachedHashCodes<K, V>(size);
+    }
+
+    public static <K, V> UnifiedMapWithCachedHashCodes<K, V> newMap(int size, float loadFactor)
+    {
+        return new UnifiedMapWithCachedHashCodes<K, V>(size, loadFactor);
+    }
+
+    public static <K, V> UnifiedMapWithCachedHashCodes<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new UnifiedMapWithCachedHashCodes<K, V>(map);
+    }
+
+    public static <K, V> UnifiedMapWithCachedHashCodes<K, V> newWithKeysValues(K key, V value)
+    {
+        UnifiedMapWithCachedHashCodes<K, V> map = new UnifiedMapWithCachedHashCodes<K, V>(1);
+        map.put(key, value);
+        return map;
+    }
+
+    public static <K, V> UnifiedMapWithCachedHashCodes<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        UnifiedMapWithCachedHashCodes<K, V> map = new UnifiedMapWithCachedHashCodes<K, V>(2);
+        map.put(key1, value1);
+        map.put(key2, value2);
+        return map;
+    }
+
+    public static <K, V> UnifiedMapWithCachedHashCodes<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        UnifiedMapWithCachedHashCodes<K, V> map = new UnifiedMapWithCachedHashCodes<K, V>(3);
+        map.put(key1, value1);
+        map.put(key2, value2);
+        map.put(key3, value3);
+        return map;
+    }
+
+    @Override
+    public UnifiedMapWithCachedHashCodes<K, V> clone()
+    {
+        return new UnifiedMapWithCachedHashCodes<K, V>(this);
+    }
+
+    public MutableMap<K, V> newEmpty()
+    {
+        return new UnifiedMapWithCachedHashCodes<K, V>();
+    }
+
+    @Override
+    public MutableMap<K, V> newEmpty(int capacity)
+    {
+        return UnifiedMapWithCachedHashCodes.newMap(capacity);
+    }
+
+    protected void init(int initialCapacity)
+    {
+        int bucketCount = 1;
+        while (bucketCount < initialCapacity)
+        {
+            bucketCount <<= 1;
+        }
+        this.allocate(bucketCount);
+    }
+
+    protected void allocate(int bucketCount)
+    {
+        this.buckets = new int[bucketCount];
+        Arrays.fill(this.buckets, NO_ENTRY);
+        int capacity = Math.max(1, (int) (bucketCount * this.loadFactor));
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+        this.hashes = new int[capacity];
+        this.next = new int[capacity];
+    }
+
+    protected static int spread(Object key)
+    {
+        // Same spreading function as UnifiedMap.index(Object)
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        h ^= h >>> 7 ^ h >>> 4;
+        return h;
+    }
+
+    private int bucket(int hash)
+    {
+        return hash & this.buckets.length - 1;
+    }
+
+    private int indexOf(Object key, int hash)
+    {
+        int index = this.buckets[this.bucket(hash)];
+        while (index != NO_ENTRY)
+        {
+            if (this.hashes[index] == hash && this.keyEquals(this.keys[index], key))
+            {
+                return index;
+            }
+            index = this.next[index];
+        }
+        return NO_ENTRY;
+    }
+
+    private boolean keyEquals(Object cur, Object key)
+    {
+        return cur == key || cur != null && cur.equals(key);
+    }
+
+    private void addEntry(K key, V value, int hash)
+    {
+        while (this.occupied == this.keys.length)
+        {
+            this.rehash(this.buckets.length << 1);
+        }
+        int index = this.occupied++;
+        int bucket = this.bucket(hash);
+        this.keys[index] = key;
+        this.values[index] = value;
+        this.hashes[index] = hash;
+        this.next[index] = this.buckets[bucket];
+        this.buckets[bucket] = index;
+    }
+
+    /**
+     * Grows the bucket array to newBucketCount and relinks the entries using their stored hash codes.
+     */
+    protected void rehash(int newBucketCount)
+    {
+        Object[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        int[] oldHashes = this.hashes;
+        this.allocate(newBucketCount);
+        System.arraycopy(oldKeys, 0, this.keys, 0, this.occupied);
+        System.arraycopy(oldValues, 0, this.values, 0, this.occupied);
+        System.arraycopy(oldHashes, 0, this.hashes, 0, this.occupied);
+        for (int i = 0; i < this.occupied; i++)
+        {
+            int bucket = this.bucket(this.hashes[i]);
+            this.next[i] = this.buckets[bucket];
+            this.buckets[bucket] = i;
+        }
+    }
+
+    /**
+     * Removes the entry at index without calling hashCode or equals, and moves the last entry into its place so that
+     * the entries stay contiguous.
+     */
+    protected void removeIndex(int index)
+    {
+        this.relink(index, this.next[index]);
+        int last = --this.occupied;
+        if (index != last)
+        {
+            this.relink(last, index);
+            this.keys[index] = this.keys[last];
+            this.values[index] = this.values[last];
+            this.hashes[index] = this.hashes[last];
+            this.next[index] = this.next[last];
+        }
+        this.keys[last] = null;
+        this.values[last] = null;
+    }
+
+    /**
+     * Replaces the reference to the entry at index in its bucket chain with link.
+     */
+    private void relink(int index, int link)
+    {
+        int bucket = this.bucket(this.hashes[index]);
+        if (this.buckets[bucket] == index)
+        {
+            this.buckets[bucket] = link;
+            return;
+        }
+        int previous = this.buckets[bucket];
+        while (this.next[previous] != index)
+        {
+            previous = this.next[previous];
+        }
+        this.next[previous] = link;
+    }
+
+    public void clear()
+    {
+        if (this.occupied == 0)
+        {
+            return;
+        }
+        Arrays.fill(this.keys, 0, this.occupied, null);
+        Arrays.fill(this.values, 0, this.occupied, null);
+        Arrays.fill(this.buckets, NO_ENTRY);
+        this.occupied = 0;
+    }
+
+    public V put(K key, V value)
+    {
+        int hash = UnifiedMapWithCachedHashCodes.spread(key);
+        int index = this.indexOf(key, hash);
+        if (index != NO_ENTRY)
+        {
+            V oldValue = (V) this.values[index];
+            this.values[index] = value;
+            return oldValue;
+        }
+        this.addEntry(key, value, hash);
+        return null;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, Function0<? extends V> function)
+    {
+        int hash = UnifiedMapWithCachedHashCodes.spread(key);
+        int index = this.indexOf(key, hash);
+        if (index != NO_ENTRY)
+        {
+            return (V) this.values[index];
+        }
+        V value = function.value();
+        this.addEntry(key, value, hash);
+        return value;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, V value)
+    {
+        int hash = UnifiedMapWithCachedHashCodes.spread(key);
+        int index = this.indexOf(key, hash);
+        if (index != NO_ENTRY)
+        {
+            return (V) this.values[index];
+        }
+        this.addEntry(key, value, hash);
+        return value;
+    }
+
+    @Override
+    public <P> V getIfAbsentPutWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        int hash = UnifiedMapWithCachedHashCodes.spread(key);
+        int index = this.indexOf(key, hash);
+        if (index != NO_ENTRY)
+        {
+            return (V) this.values[index];
+        }
+        V value = function.valueOf(parameter);
+        this.addEntry(key, value, hash);
+        return value;
+    }
+
+    @Override
+    public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
+    {
+        int hash = UnifiedMapWithCachedHashCodes.spread(key);
+        int index = this.indexOf(key, hash);
+        if (index != NO_ENTRY)
+        {
+            V newValue = function.valueOf((V) this.values[index]);
+            this.values[index] = newValue;
+            return newValue;
+        }
+        V newValue = function.valueOf(factory.value());
+        this.addEntry(key, newValue, hash);
+        return newValue;
+    }
+
+    @Override
+    public <P> V updateValueWith(K key, Function0<? extends V> factory, Function2<? super V, ? super P, ? extends V> function, P parameter)
+    {
+        int hash = UnifiedMapWithCachedHashCodes.spread(key);
+        int index = this.indexOf(key, hash);
+        if (index != NO_ENTRY)
+        {
+            V newValue = function.value((V) this.values[index], parameter);
+            this.values[index] = newValue;
+            return newValue;
+        }
+        V newValue = function.value(factory.value(), parameter);
+        this.addEntry(key, newValue, hash);
+        return newValue;
+    }
+
+    public V get(Object key)
+    {
+        int index = this.indexOf(key, UnifiedMapWithCachedHashCodes.spread(key));
+        return index == NO_ENTRY ? null : (V) this.values[index];
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.indexOf(key, UnifiedMapWithCachedHashCodes.spread(key)) != NO_ENTRY;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        for (int i = 0; i < this.occupied; i++)
+        {
+            if (this.keyEquals(value, this.values[i]))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public V remove(Object key)
+    {
+        int index = this.indexOf(key, UnifiedMapWithCachedHashCodes.spread(key));
+        if (index == NO_ENTRY)
+        {
+            return null;
+        }
+        V oldValue = (V) this.values[index];
+        this.removeIndex(index);
+        return oldValue;
+    }
+
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof UnifiedMapWithCachedHashCodes<?, ?>)
+        {
+            this.copyMap((UnifiedMapWithCachedHashCodes<K, V>) map);
+        }
+        else if (map instanceof MapIterable)
+        {
+            MapIterable<K, V> mapIterable = (MapIterable<K, V>) map;
+            mapIterable.forEachKeyValue(new Procedure2<K, V>()
+            {
+                public void value(K key, V value)
+                {
+                    UnifiedMapWithCachedHashCodes.this.put(key, value);
+                }
+            });
+        }
+        else
+        {
+            for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+            {
+                this.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    protected void copyMap(UnifiedMapWithCachedHashCodes<K, V> other)
+    {
+        for (int i = 0; i < other.occupied; i++)
+        {
+            K key = (K) other.keys[i];
+            int hash = other.hashes[i];
+            int index = this.indexOf(key, hash);
+            if (index == NO_ENTRY)
+            {
+                this.addEntry(key, (V) other.values[i], hash);
+            }
+            else
+            {
+                this.values[index] = other.values[i];
+            }
+        }
+    }
+
+    public int size()
+    {
+        return this.occupied;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupied == 0;
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (int i = 0; i < this.occupied; i++)
+        {
+            procedure.value((K) this.keys[i], (V) this.values[i]);
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        for (int i = 0; i < this.occupied; i++)
+        {
+            procedure.value((K) this.keys[i]);
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        for (int i = 0; i < this.occupied; i++)
+        {
+            procedure.value((V) this.values[i]);
+        }
+    }
+
+    /**
+     * Returns a cursor over the entries of this map. The cursor reads the parallel arrays directly and creates no
+     * objects per entry.
+     */
+    public MapCursor<K, V> cursor()
+    {
+        return new EntryCursor();
+    }
+
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    public Set<Map.Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+
+        for (int i = 0; i < this.occupied; i++)
+        {
+            Object key = this.keys[i];
+            Object value = this.values[i];
+            Object otherValue = other.get(key);
+            if (!this.keyEquals(otherValue, value) || (value == null && otherValue == null && !other.containsKey(key)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.occupied; i++)
+        {
+            Object key = this.keys[i];
+            Object value = this.values[i];
+            hashCode += (key == null ? 0 : key.hashCode()) ^ (value == null ? 0 : value.hashCode());
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+        for (int i = 0; i < this.occupied; i++)
+        {
+            if (i > 0)
+            {
+                builder.append(", ");
+            }
+            Object key = this.keys[i];
+            Object value = this.values[i];
+            builder.append(key == this ? "(this Map)" : key);
+            builder.append('=');
+            builder.append(value == this ? "(this Map)" : value);
+        }
+        builder.append('}');
+        return builder.toString();
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.loadFactor = in.readFloat();
+        this.init(Math.max((int) (size / this.loadFactor) + 1, DEFAULT_INITIAL_CAPACITY));
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        out.writeFloat(this.loadFactor);
+        for (int i = 0; i < this.occupied; i++)
+        {
+            out.writeObject(this.keys[i]);
+            out.writeObject(this.values[i]);
+        }
+    }
+
+    protected abstract class PositionalIterator<T> implements Iterator<T>
+    {
+        protected int position;
+        protected int lastReturned = NO_ENTRY;
+
+        public boolean hasNext()
+        {
+            return this.position < UnifiedMapWithCachedHashCodes.this.occupied;
+        }
+
+        protected int nextPosition()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException("next() called, but the iterator is exhausted");
+            }
+            this.lastReturned = this.position++;
+            return this.lastReturned;
+        }
+
+        public void remove()
+        {
+            if (this.lastReturned == NO_ENTRY)
+            {
+                throw new IllegalStateException("remove() must be called after next()");
+            }
+            UnifiedMapWithCachedHashCodes.this.removeIndex(this.lastReturned);
+            // The last entry was moved into the removed slot, which has not been visited yet
+            this.position = this.lastReturned;
+            this.lastReturned = NO_ENTRY;
+        }
+    }
+
+    protected class KeySetIterator extends PositionalIterator<K>
+    {
+        public K next()
+        {
+            return (K) UnifiedMapWithCachedHashCodes.this.keys[this.nextPosition()];
+        }
+    }
+
+    protected class ValuesIterator extends PositionalIterator<V>
+    {
+        public V next()
+        {
+            return (V) UnifiedMapWithCachedHashCodes.this.values[this.nextPosition()];
+        }
+    }
+
+    protected class EntrySetIterator extends PositionalIterator<Map.Entry<K, V>>
+    {
+        public Map.Entry<K, V> next()
+        {
+            int index = this.nextPosition();
+            return new BoundEntry(
+                    (K) UnifiedMapWithCachedHashCodes.this.keys[index],
+                    (V) UnifiedMapWithCachedHashCodes.this.values[index]);
+        }
+    }
+
+    protected class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeySetIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return UnifiedMapWithCachedHashCodes.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return UnifiedMapWithCachedHashCodes.this.containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            int oldSize = UnifiedMapWithCachedHashCodes.this.size();
+            UnifiedMapWithCachedHashCodes.this.remove(o);
+            return UnifiedMapWithCachedHashCodes.this.size() != oldSize;
+        }
+
+        @Override
+        public void clear()
+        {
+            UnifiedMapWithCachedHashCodes.this.clear();
+        }
+    }
+
+    protected class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValuesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return UnifiedMapWithCachedHashCodes.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return UnifiedMapWithCachedHashCodes.this.containsValue(o);
+        }
+
+        @Override
+        public void clear()
+        {
+            UnifiedMapWithCachedHashCodes.this.clear();
+        }
+    }
+
+    protected class EntrySet extends AbstractSet<Map.Entry<K, V>>
+    {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator()
+        {
+            return new EntrySetIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return UnifiedMapWithCachedHashCodes.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Map.Entry<?, ?>))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            Object key = entry.getKey();
+            int index = UnifiedMapWithCachedHashCodes.this.indexOf(key, UnifiedMapWithCachedHashCodes.spread(key));
+            return index != NO_ENTRY && UnifiedMapWithCachedHashCodes.this.keyEquals(entry.getValue(), UnifiedMapWithCachedHashCodes.this.values[index]);
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            if (!this.contains(o))
+            {
+                return false;
+            }
+            UnifiedMapWithCachedHashCodes.this.remove(((Map.Entry<?, ?>) o).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            UnifiedMapWithCachedHashCodes.this.clear();
+        }
+    }
+
+    protected class BoundEntry implements Map.Entry<K, V>
+    {
+        private final K key;
+        private V value;
+
+        protected BoundEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        public V setValue(V value)
+        {
+            this.value = value;
+            return UnifiedMapWithCachedHashCodes.this.put(this.key, value);
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (!(o instanceof Map.Entry<?, ?>))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            return UnifiedMapWithCachedHashCodes.this.keyEquals(this.key, other.getKey())
+                    && UnifiedMapWithCachedHashCodes.this.keyEquals(this.value, other.getValue());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this.key == null ? 0 : this.key.hashCode()) ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+
+    protected class EntryCursor implements MapCursor<K, V>
+    {
+        private int position = NO_ENTRY;
+        private boolean positioned;
+
+        public boolean advance()
+        {
+            this.positioned = this.position + 1 < UnifiedMapWithCachedHashCodes.this.occupied;
+            if (this.positioned)
+            {
+                this.position++;
+            }
+            return this.positioned;
+        }
+
+        public K key()
+        {
+            this.checkPositioned();
+            return (K) UnifiedMapWithCachedHashCodes.this.keys[this.position];
+        }
+
+        public V value()
+        {
+            this.checkPositioned();
+            return (V) UnifiedMapWithCachedHashCodes.this.values[this.position];
+        }
+
+        public void setValue(V value)
+        {
+            this.checkPositioned();
+            UnifiedMapWithCachedHashCodes.this.values[this.position] = value;
+        }
+
+        private void checkPositioned()
+        {
+            if (!this.positioned)
+            {
+                throw new IllegalStateException("advance() must return true before the current entry is accessed");
+            }
+        }
+    }
+}
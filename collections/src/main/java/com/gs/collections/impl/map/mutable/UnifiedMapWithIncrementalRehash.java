@@ -0,0 +1,1038 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.map.MapIterable;
+import com.gs.collections.api.map.MutableMap;
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * UnifiedMapWithIncrementalRehash uses the same table layout as {@link UnifiedMap}, but it never moves the whole table
+ * in one call. When the map crosses its load factor, it allocates a table of twice the size and keeps the old one.
+ * Each following put of a new key moves {@link #BUCKETS_MIGRATED_PER_PUT} buckets from the old table to the new one,
+ * and lookups consult both tables until the old table is empty. The cost of growing is spread over the puts that
+ * follow it, which removes the long pause that a large UnifiedMap takes when it grows. Allocating the new table is
+ * still proportional to its size, but that is much cheaper than rehashing every key.
+ * <p>
+ * Lookups are slightly slower than in UnifiedMap while a migration is in progress, so UnifiedMap remains the better
+ * choice when throughput matters more than the latency of individual puts.
+ *
+ * @since 7.0
+ */
+@NotThreadSafe
+@SuppressWarnings("ObjectEquality")
+public class UnifiedMapWithIncrementalRehash<K, V> extends AbstractMutableMap<K, V>
+        implements Externalizable
+{
+    /**
+     * The number of buckets of the old table that each put of a new key moves to the new table. Any value of 2 or
+     * more finishes a migration before the new table can fill up.
+     */
+    protected static final int BUCKETS_MIGRATED_PER_PUT = 4;
+
+    protected static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    protected static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    private static final Object NULL_KEY = UnifiedMap.NULL_KEY;
+
+    private static final Object CHAINED_KEY = UnifiedMap.CHAINED_KEY;
+
+    private static final Object ABSENT = new Object();
+
+    private static final long serialVersionUID = 1L;
+
+    protected transient Object[] table;
+
+    /**
+     * The table that is being migrated, or null when no migration is in progress.
+     */
+    protected transient Object[] oldTable;
+
+    /**
+     * The index in {@link #oldTable} of the first bucket that has not been migrated yet.
+     */
+    protected transient int migrationIndex;
+
+    protected transient int occupied;
+
+    protected float loadFactor = DEFAULT_LOAD_FACTOR;
+
+    protected int maxSize;
+
+    public UnifiedMapWithIncrementalRehash()
+    {
+        this.allocate(DEFAULT_INITIAL_CAPACITY << 1);
+    }
+
+    public UnifiedMapWithIncrementalRehash(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public UnifiedMapWithIncrementalRehash(int initialCapacity, float loadFactor)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        if (loadFactor <= 0.0)
+        {
+            throw new IllegalArgumentException("load factor cannot be less than or equal to 0");
+        }
+        if (loadFactor > 1.0)
+        {
+            throw new IllegalArgumentException("load factor cannot be greater than 1");
+        }
+
+        this.loadFactor = loadFactor;
+        this.init(this.fastCeil(initialCapacity / loadFactor));
+    }
+
+    public UnifiedMapWithIncrementalRehash(Map<? extends K, ? extends V> map)
+    {
+        this(Math.max(map.size(), DEFAULT_INITIAL_CAPACITY), DEFAULT_LOAD_FACTOR);
+
+        this.putAll(map);
+    }
+
+    public static <K, V> UnifiedMapWithIncrementalRehash<K, V> newMap()
+    {
+        return new UnifiedMapWithIncrementalRehash<K, V>();
+    }
+
+    public static <K, V> UnifiedMapWithIncrementalRehash<K, V> newMap(int size)
+    {
+        return new UnifiedMapWithIncrementalRehash<K, V>(size);
+    }
+
+    public static <K, V> UnifiedMapWithIncrementalRehash<K, V> newMap(int size, float loadFactor)
+    {
+        return new UnifiedMapWithIncrementalRehash<K, V>(size, loadFactor);
+    }
+
+    public static <K, V> UnifiedMapWithIncrementalRehash<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new UnifiedMapWithIncrementalRehash<K, V>(map);
+    }
+
+    public static <K, V> UnifiedMapWithIncrementalRehash<K, V> newWithKeysValues(K key, V value)
+    {
+        UnifiedMapWithIncrementalRehash<K, V> map = new UnifiedMapWithIncrementalRehash<K, V>(1);
+        map.put(key, value);
+        return map;
+    }
+
+    public static <K, V> UnifiedMapWithIncrementalRehash<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        UnifiedMapWithIncrementalRehash<K, V> map = new UnifiedMapWithIncrementalRehash<K, V>(2);
+        map.put(key1, value1);
+        map.put(key2, value2);
+        return map;
+    }
+
+    public static <K, V> UnifiedMapWithIncrementalRehash<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        UnifiedMapWithIncrementalRehash<K, V> map = new UnifiedMapWithIncrementalRehash<K, V>(3);
+        map.put(key1, value1);
+        map.put(key2, value2);
+        map.put(key3, value3);
+        return map;
+    }
+
+    private int fastCeil(float v)
+    {
+        int possibleResult = (int) v;
+        if (v - possibleResult > 0.0F)
+        {
+            possibleResult++;
+        }
+        return possibleResult;
+    }
+
+    @Override
+    public UnifiedMapWithIncrementalRehash<K, V> clone()
+    {
+        return new UnifiedMapWithIncrementalRehash<K, V>(this);
+    }
+
+    public MutableMap<K, V> newEmpty()
+    {
+        return new UnifiedMapWithIncrementalRehash<K, V>();
+    }
+
+    @Override
+    public MutableMap<K, V> newEmpty(int capacity)
+    {
+        return UnifiedMapWithIncrementalRehash.newMap(capacity);
+    }
+
+    protected void init(int initialCapacity)
+    {
+        int capacity = 1;
+        while (capacity < initialCapacity)
+        {
+            capacity <<= 1;
+        }
+        this.allocate(capacity);
+    }
+
+    protected void allocate(int capacity)
+    {
+        this.table = new Object[capacity << 1]; // the table size is twice the capacity to handle both keys and values
+        // need at least one free slot for open addressing
+        this.maxSize = Math.min(capacity - 1, (int) (capacity * this.loadFactor));
+    }
+
+    /**
+     * Returns true while entries are still being moved from the old table to the new one.
+     */
+    public boolean isRehashing()
+    {
+        return this.oldTable != null;
+    }
+
+    protected static int spread(Object key)
+    {
+        // Same spreading function as UnifiedMap.index(Object)
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        h ^= h >>> 7 ^ h >>> 4;
+        return h;
+    }
+
+    private static int index(Object[] table, int hash)
+    {
+        return (hash & (table.length >> 1) - 1) << 1;
+    }
+
+    /**
+     * Returns the array holding the key/value pairs of the bucket at index: the chain if the bucket has one,
+     * otherwise the table itself.
+     */
+    private static Object[] pairsAt(Object[] table, int index)
+    {
+        return table[index] == CHAINED_KEY ? (Object[]) table[index + 1] : table;
+    }
+
+    private static int offsetOf(Object[] table, int index, Object[] pairs, Object key)
+    {
+        if (pairs == table)
+        {
+            Object cur = table[index];
+            return cur != null && UnifiedMapWithIncrementalRehash.keyEquals(cur, key) ? index : -1;
+        }
+        for (int i = 0; i < pairs.length && pairs[i] != null; i += 2)
+        {
+            if (UnifiedMapWithIncrementalRehash.keyEquals(pairs[i], key))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean keyEquals(Object cur, Object key)
+    {
+        return cur == key || (cur == NULL_KEY ? key == null : cur.equals(key));
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private K nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    private Object valueIn(Object[] table, Object key, int hash)
+    {
+        if (table == null)
+        {
+            return ABSENT;
+        }
+        int index = UnifiedMapWithIncrementalRehash.index(table, hash);
+        Object[] pairs = UnifiedMapWithIncrementalRehash.pairsAt(table, index);
+        int offset = UnifiedMapWithIncrementalRehash.offsetOf(table, index, pairs, key);
+        return offset == -1 ? ABSENT : pairs[offset + 1];
+    }
+
+    private Object replaceValueIn(Object[] table, Object key, Object value, int hash)
+    {
+        if (table == null)
+        {
+            return ABSENT;
+        }
+        int index = UnifiedMapWithIncrementalRehash.index(table, hash);
+        Object[] pairs = UnifiedMapWithIncrementalRehash.pairsAt(table, index);
+        int offset = UnifiedMapWithIncrementalRehash.offsetOf(table, index, pairs, key);
+        if (offset == -1)
+        {
+            return ABSENT;
+        }
+        Object oldValue = pairs[offset + 1];
+        pairs[offset + 1] = value;
+        return oldValue;
+    }
+
+    private Object removeFrom(Object[] table, Object key, int hash)
+    {
+        if (table == null)
+        {
+            return ABSENT;
+        }
+        int index = UnifiedMapWithIncrementalRehash.index(table, hash);
+        Object[] pairs = UnifiedMapWithIncrementalRehash.pairsAt(table, index);
+        int offset = UnifiedMapWithIncrementalRehash.offsetOf(table, index, pairs, key);
+        if (offset == -1)
+        {
+            return ABSENT;
+        }
+        Object oldValue = pairs[offset + 1];
+        this.removeAt(table, index, pairs, offset);
+        return oldValue;
+    }
+
+    /**
+     * Removes the pair at offset in pairs, which is either the table or the chain of the bucket at index. The last pair
+     * of a chain is moved into the hole so that chains never contain gaps.
+     */
+    private void removeAt(Object[] table, int index, Object[] pairs, int offset)
+    {
+        if (pairs == table)
+        {
+            table[index] = null;
+            table[index + 1] = null;
+        }
+        else
+        {
+            int last = offset;
+            while (last + 2 < pairs.length && pairs[last + 2] != null)
+            {
+                last += 2;
+            }
+            pairs[offset] = pairs[last];
+            pairs[offset + 1] = pairs[last + 1];
+            pairs[last] = null;
+            pairs[last + 1] = null;
+            if (pairs[0] == null)
+            {
+                table[index] = null;
+                table[index + 1] = null;
+            }
+        }
+        this.occupied--;
+    }
+
+    /**
+     * Adds a key that is known not to be in the map. The key must already be replaced by its sentinel if it is null.
+     */
+    private static void insert(Object[] table, Object key, Object value, int hash)
+    {
+        int index = UnifiedMapWithIncrementalRehash.index(table, hash);
+        Object cur = table[index];
+        if (cur == null)
+        {
+            table[index] = key;
+            table[index + 1] = value;
+            return;
+        }
+        if (cur != CHAINED_KEY)
+        {
+            table[index + 1] = new Object[]{cur, table[index + 1], key, value};
+            table[index] = CHAINED_KEY;
+            return;
+        }
+        Object[] chain = (Object[]) table[index + 1];
+        for (int i = 0; i < chain.length; i += 2)
+        {
+            if (chain[i] == null)
+            {
+                chain[i] = key;
+                chain[i + 1] = value;
+                return;
+            }
+        }
+        Object[] newChain = new Object[chain.length + 4];
+        System.arraycopy(chain, 0, newChain, 0, chain.length);
+        newChain[chain.length] = key;
+        newChain[chain.length + 1] = value;
+        table[index + 1] = newChain;
+    }
+
+    /**
+     * Starts moving the entries to a table of twice the size. A migration that is still in progress is finished first.
+     */
+    protected void rehash()
+    {
+        this.finishMigration();
+        this.oldTable = this.table;
+        this.migrationIndex = 0;
+        this.allocate(this.table.length);
+    }
+
+    protected void finishMigration()
+    {
+        if (this.oldTable != null)
+        {
+            this.migrateBuckets(this.oldTable.length >> 1);
+        }
+    }
+
+    /**
+     * Moves up to bucketCount buckets from the old table to the new one.
+     */
+    protected void migrateBuckets(int bucketCount)
+    {
+        Object[] old = this.oldTable;
+        if (old == null)
+        {
+            return;
+        }
+        int end = Math.min(this.migrationIndex + (bucketCount << 1), old.length);
+        for (int i = this.migrationIndex; i < end; i += 2)
+        {
+            Object cur = old[i];
+            if (cur == CHAINED_KEY)
+            {
+                Object[] chain = (Object[]) old[i + 1];
+                for (int j = 0; j < chain.length && chain[j] != null; j += 2)
+                {
+                    UnifiedMapWithIncrementalRehash.insert(this.table, chain[j], chain[j + 1], UnifiedMapWithIncrementalRehash.spread(this.nonSentinel(chain[j])));
+                }
+            }
+            else if (cur != null)
+            {
+                UnifiedMapWithIncrementalRehash.insert(this.table, cur, old[i + 1], UnifiedMapWithIncrementalRehash.spread(this.nonSentinel(cur)));
+            }
+            old[i] = null;
+            old[i + 1] = null;
+        }
+        this.migrationIndex = end;
+        if (end == old.length)
+        {
+            this.oldTable = null;
+        }
+    }
+
+    public void clear()
+    {
+        if (this.occupied == 0)
+        {
+            return;
+        }
+        this.occupied = 0;
+        this.oldTable = null;
+        Object[] set = this.table;
+
+        for (int i = set.length; i-- > 0; )
+        {
+            set[i] = null;
+        }
+    }
+
+    public V put(K key, V value)
+    {
+        int hash = UnifiedMapWithIncrementalRehash.spread(key);
+        Object oldValue = this.replaceValueIn(this.oldTable, key, value, hash);
+        if (oldValue == ABSENT)
+        {
+            oldValue = this.replaceValueIn(this.table, key, value, hash);
+        }
+        if (oldValue != ABSENT)
+        {
+            return (V) oldValue;
+        }
+        this.migrateBuckets(BUCKETS_MIGRATED_PER_PUT);
+        UnifiedMapWithIncrementalRehash.insert(this.table, UnifiedMapWithIncrementalRehash.toSentinelIfNull(key), value, hash);
+        if (++this.occupied > this.maxSize)
+        {
+            this.rehash();
+        }
+        return null;
+    }
+
+    public V get(Object key)
+    {
+        int hash = UnifiedMapWithIncrementalRehash.spread(key);
+        Object value = this.valueIn(this.oldTable, key, hash);
+        if (value == ABSENT)
+        {
+            value = this.valueIn(this.table, key, hash);
+        }
+        return value == ABSENT ? null : (V) value;
+    }
+
+    public boolean containsKey(Object key)
+    {
+        int hash = UnifiedMapWithIncrementalRehash.spread(key);
+        return this.valueIn(this.oldTable, key, hash) != ABSENT || this.valueIn(this.table, key, hash) != ABSENT;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        return this.containsValueIn(this.oldTable, value) || this.containsValueIn(this.table, value);
+    }
+
+    private boolean containsValueIn(Object[] table, Object value)
+    {
+        if (table == null)
+        {
+            return false;
+        }
+        for (int i = 0; i < table.length; i += 2)
+        {
+            Object cur = table[i];
+            if (cur == CHAINED_KEY)
+            {
+                Object[] chain = (Object[]) table[i + 1];
+                for (int j = 0; j < chain.length && chain[j] != null; j += 2)
+                {
+                    if (this.valueEquals(value, chain[j + 1]))
+                    {
+                        return true;
+                    }
+                }
+            }
+            else if (cur != null && this.valueEquals(value, table[i + 1]))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean valueEquals(Object value, Object cur)
+    {
+        return value == cur || value != null && value.equals(cur);
+    }
+
+    public V remove(Object key)
+    {
+        int hash = UnifiedMapWithIncrementalRehash.spread(key);
+        Object oldValue = this.removeFrom(this.oldTable, key, hash);
+        if (oldValue == ABSENT)
+        {
+            oldValue = this.removeFrom(this.table, key, hash);
+        }
+        return oldValue == ABSENT ? null : (V) oldValue;
+    }
+
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof MapIterable)
+        {
+            MapIterable<K, V> mapIterable = (MapIterable<K, V>) map;
+            mapIterable.forEachKeyValue(new Procedure2<K, V>()
+            {
+                public void value(K key, V value)
+                {
+                    UnifiedMapWithIncrementalRehash.this.put(key, value);
+                }
+            });
+        }
+        else
+        {
+            for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+            {
+                this.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    public int size()
+    {
+        return this.occupied;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupied == 0;
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.forEachKeyValueIn(this.oldTable, procedure);
+        this.forEachKeyValueIn(this.table, procedure);
+    }
+
+    private void forEachKeyValueIn(Object[] table, Procedure2<? super K, ? super V> procedure)
+    {
+        if (table == null)
+        {
+            return;
+        }
+        for (int i = 0; i < table.length; i += 2)
+        {
+            Object cur = table[i];
+            if (cur == CHAINED_KEY)
+            {
+                Object[] chain = (Object[]) table[i + 1];
+                for (int j = 0; j < chain.length && chain[j] != null; j += 2)
+                {
+                    procedure.value(this.nonSentinel(chain[j]), (V) chain[j + 1]);
+                }
+            }
+            else if (cur != null)
+            {
+                procedure.value(this.nonSentinel(cur), (V) table[i + 1]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachKey(final Procedure<? super K> procedure)
+    {
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                procedure.value(key);
+            }
+        });
+    }
+
+    @Override
+    public void forEachValue(final Procedure<? super V> procedure)
+    {
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                procedure.value(value);
+            }
+        });
+    }
+
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    public Set<Map.Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+
+        for (Map.Entry<K, V> entry : this.entrySet())
+        {
+            Object key = entry.getKey();
+            Object value = entry.getValue();
+            Object otherValue = other.get(key);
+            if (!this.valueEquals(value, otherValue) || (value == null && otherValue == null && !other.containsKey(key)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final int[] hashCode = new int[1];
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                hashCode[0] += (key == null ? 0 : key.hashCode()) ^ (value == null ? 0 : value.hashCode());
+            }
+        });
+        return hashCode[0];
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder builder = new StringBuilder();
+        builder.append('{');
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            private boolean first = true;
+
+            public void value(K key, V value)
+            {
+                if (!this.first)
+                {
+                    builder.append(", ");
+                }
+                this.first = false;
+                builder.append(key == UnifiedMapWithIncrementalRehash.this ? "(this Map)" : key);
+                builder.append('=');
+                builder.append(value == UnifiedMapWithIncrementalRehash.this ? "(this Map)" : value);
+            }
+        });
+        builder.append('}');
+        return builder.toString();
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.loadFactor = in.readFloat();
+        this.init(Math.max((int) (size / this.loadFactor) + 1, DEFAULT_INITIAL_CAPACITY));
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        out.writeFloat(this.loadFactor);
+        for (Map.Entry<K, V> entry : this.entrySet())
+        {
+            out.writeObject(entry.getKey());
+            out.writeObject(entry.getValue());
+        }
+    }
+
+    /**
+     * Walks the buckets of the old table that have not been migrated, then the buckets of the current table. Removing
+     * through the iterator never migrates buckets, so the tables do not move under it.
+     */
+    protected abstract class PositionalIterator<E> implements Iterator<E>
+    {
+        protected Object[] pairs;
+        protected int offset;
+
+        private Object[] currentTable = UnifiedMapWithIncrementalRehash.this.oldTable == null
+                ? UnifiedMapWithIncrementalRehash.this.table
+                : UnifiedMapWithIncrementalRehash.this.oldTable;
+        private int index;
+        private int chainOffset;
+
+        private Object[] lastTable;
+        private int lastIndex;
+        private int lastChainOffset;
+
+        public boolean hasNext()
+        {
+            while (this.currentTable != null)
+            {
+                if (this.index >= this.currentTable.length)
+                {
+                    this.currentTable = this.currentTable == UnifiedMapWithIncrementalRehash.this.table
+                            ? null
+                            : UnifiedMapWithIncrementalRehash.this.table;
+                    this.index = 0;
+                    this.chainOffset = 0;
+                    continue;
+                }
+                Object cur = this.currentTable[this.index];
+                if (cur == CHAINED_KEY)
+                {
+                    Object[] chain = (Object[]) this.currentTable[this.index + 1];
+                    if (this.chainOffset < chain.length && chain[this.chainOffset] != null)
+                    {
+                        return true;
+                    }
+                }
+                else if (cur != null && this.chainOffset == 0)
+                {
+                    return true;
+                }
+                this.index += 2;
+                this.chainOffset = 0;
+            }
+            return false;
+        }
+
+        /**
+         * Moves to the next pair and points {@link #pairs} and {@link #offset} at its key.
+         */
+        protected void advance()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException("next() called, but the iterator is exhausted");
+            }
+            this.lastTable = this.currentTable;
+            this.lastIndex = this.index;
+            this.lastChainOffset = this.chainOffset;
+            this.pairs = UnifiedMapWithIncrementalRehash.pairsAt(this.currentTable, this.index);
+            this.offset = this.pairs == this.currentTable ? this.index : this.chainOffset;
+            this.chainOffset += 2;
+        }
+
+        protected K currentKey()
+        {
+            return UnifiedMapWithIncrementalRehash.this.nonSentinel(this.pairs[this.offset]);
+        }
+
+        protected V currentValue()
+        {
+            return (V) this.pairs[this.offset + 1];
+        }
+
+        public void remove()
+        {
+            if (this.lastTable == null)
+            {
+                throw new IllegalStateException("remove() must be called after next()");
+            }
+            UnifiedMapWithIncrementalRehash.this.removeAt(this.lastTable, this.lastIndex, this.pairs, this.offset);
+            if (this.pairs != this.lastTable)
+            {
+                // The last pair of the chain was moved into the removed slot, which has not been visited yet
+                this.currentTable = this.lastTable;
+                this.index = this.lastIndex;
+                this.chainOffset = this.lastChainOffset;
+            }
+            this.lastTable = null;
+        }
+    }
+
+    protected class KeySetIterator extends PositionalIterator<K>
+    {
+        public K next()
+        {
+            this.advance();
+            return this.currentKey();
+        }
+    }
+
+    protected class ValuesIterator extends PositionalIterator<V>
+    {
+        public V next()
+        {
+            this.advance();
+            return this.currentValue();
+        }
+    }
+
+    protected class EntrySetIterator extends PositionalIterator<Map.Entry<K, V>>
+    {
+        public Map.Entry<K, V> next()
+        {
+            this.advance();
+            return new BoundEntry(this.currentKey(), this.currentValue());
+        }
+    }
+
+    protected class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeySetIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return UnifiedMapWithIncrementalRehash.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return UnifiedMapWithIncrementalRehash.this.containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            int oldSize = UnifiedMapWithIncrementalRehash.this.size();
+            UnifiedMapWithIncrementalRehash.this.remove(o);
+            return UnifiedMapWithIncrementalRehash.this.size() != oldSize;
+        }
+
+        @Override
+        public void clear()
+        {
+            UnifiedMapWithIncrementalRehash.this.clear();
+        }
+    }
+
+    protected class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValuesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return UnifiedMapWithIncrementalRehash.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return UnifiedMapWithIncrementalRehash.this.containsValue(o);
+        }
+
+        @Override
+        public void clear()
+        {
+            UnifiedMapWithIncrementalRehash.this.clear();
+        }
+    }
+
+    protected class EntrySet extends AbstractSet<Map.Entry<K, V>>
+    {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator()
+        {
+            return new EntrySetIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return UnifiedMapWithIncrementalRehash.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Map.Entry<?, ?>))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            Object key = entry.getKey();
+            int hash = UnifiedMapWithIncrementalRehash.spread(key);
+            Object value = UnifiedMapWithIncrementalRehash.this.valueIn(UnifiedMapWithIncrementalRehash.this.oldTable, key, hash);
+            if (value == ABSENT)
+            {
+                value = UnifiedMapWithIncrementalRehash.this.valueIn(UnifiedMapWithIncrementalRehash.this.table, key, hash);
+            }
+            return value != ABSENT && UnifiedMapWithIncrementalRehash.this.valueEquals(entry.getValue(), value);
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            if (!this.contains(o))
+            {
+                return false;
+            }
+            UnifiedMapWithIncrementalRehash.this.remove(((Map.Entry<?, ?>) o).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            UnifiedMapWithIncrementalRehash.this.clear();
+        }
+    }
+
+    protected class BoundEntry implements Map.Entry<K, V>
+    {
+        private final K key;
+        private V value;
+
+        protected BoundEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        public V setValue(V value)
+        {
+            this.value = value;
+            // Replacing the value of an existing key never migrates buckets, so this is safe during iteration
+            return UnifiedMapWithIncrementalRehash.this.put(this.key, value);
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (!(o instanceof Map.Entry<?, ?>))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            return UnifiedMapWithIncrementalRehash.this.valueEquals(this.key, other.getKey())
+                    && UnifiedMapWithIncrementalRehash.this.valueEquals(this.value, other.getValue());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this.key == null ? 0 : this.key.hashCode()) ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+}
@@ -21,7 +21,9 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Map;
 
+import com.gs.collections.api.IntIterable;
 import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.LongIterable;
 import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.primitive.MutableBooleanBag;
@@ -64,7 +66,10 @@ import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.ImmutableMap;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableIntObjectMap;
+import com.gs.collections.api.map.primitive.MutableLongObjectMap;
 import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.MutableMultimap;
@@ -74,6 +79,9 @@ import com.gs.collections.api.ordered.OrderedIterable;
 import com.gs.collections.api.partition.bag.PartitionMutableBag;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.primitive.DoubleSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.IntSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.LongSummaryStatistics;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.UnmodifiableIteratorAdapter;
 import com.gs.collections.impl.UnmodifiableMap;
@@ -690,6 +698,41 @@ public class UnmodifiableMutableMap<K, V>
         return this.getMutableMap().sumOfDouble(function);
     }
 
+    public IntSummaryStatistics summarizeInt(IntFunction<? super V> function)
+    {
+        return this.getMutableMap().summarizeInt(function);
+    }
+
+    public LongSummaryStatistics summarizeLong(LongFunction<? super V> function)
+    {
+        return this.getMutableMap().summarizeLong(function);
+    }
+
+    public DoubleSummaryStatistics summarizeDouble(DoubleFunction<? super V> function)
+    {
+        return this.getMutableMap().summarizeDouble(function);
+    }
+
+    public <R extends MutableIntCollection> R flatCollectInt(Function<? super V, ? extends IntIterable> function, R target)
+    {
+        return this.getMutableMap().flatCollectInt(function, target);
+    }
+
+    public <R extends MutableLongCollection> R flatCollectLong(Function<? super V, ? extends LongIterable> function, R target)
+    {
+        return this.getMutableMap().flatCollectLong(function, target);
+    }
+
+    public MutableIntObjectMap<MutableList<V>> groupByInt(IntFunction<? super V> function)
+    {
+        return this.getMutableMap().groupByInt(function);
+    }
+
+    public MutableLongObjectMap<MutableList<V>> groupByLong(LongFunction<? super V> function)
+    {
+        return this.getMutableMap().groupByLong(function);
+    }
+
     public <V1> ObjectLongMap<V1> sumByInt(Function<V, V1> groupBy, IntFunction<? super V> function)
     {
         return this.getMutableMap().sumByInt(groupBy, function);
@@ -710,6 +753,21 @@ public class UnmodifiableMutableMap<K, V>
         return this.getMutableMap().sumByDouble(groupBy, function);
     }
 
+    public <V1> ObjectIntMap<V1> aggregateIntBy(Function<? super V, ? extends V1> groupBy, int zeroValue, IntObjectToIntFunction<? super V> aggregator)
+    {
+        return this.getMutableMap().aggregateIntBy(groupBy, zeroValue, aggregator);
+    }
+
+    public <V1> ObjectLongMap<V1> aggregateLongBy(Function<? super V, ? extends V1> groupBy, long zeroValue, LongObjectToLongFunction<? super V> aggregator)
+    {
+        return this.getMutableMap().aggregateLongBy(groupBy, zeroValue, aggregator);
+    }
+
+    public <V1> ObjectDoubleMap<V1> aggregateDoubleBy(Function<? super V, ? extends V1> groupBy, double zeroValue, DoubleObjectToDoubleFunction<? super V> aggregator)
+    {
+        return this.getMutableMap().aggregateDoubleBy(groupBy, zeroValue, aggregator);
+    }
+
     public String makeString()
     {
         return this.getMutableMap().makeString();
@@ -55,6 +55,7 @@ import com.gs.collections.api.list.primitive.MutableBooleanList;
 import com.gs.collections.api.map.primitive.ImmutableObjectBooleanMap;
 import com.gs.collections.api.map.primitive.MutableObjectBooleanMap;
 import com.gs.collections.api.map.primitive.ObjectBooleanMap;
+import com.gs.collections.api.map.primitive.ObjectBooleanMapCursor;
 import com.gs.collections.api.set.primitive.BooleanSet;
 import com.gs.collections.api.set.primitive.MutableBooleanSet;
 import com.gs.collections.api.tuple.primitive.ObjectBooleanPair;
@@ -852,6 +853,16 @@ public class ObjectBooleanHashMap<K> implements MutableObjectBooleanMap<K>, Exte
         return new KeyValuesView();
     }
 
+    /**
+     * Returns a cursor over the entries of this map that does not allocate per entry.
+     *
+     * @since 7.0
+     */
+    public ObjectBooleanMapCursor<K> cursor()
+    {
+        return new ObjectBooleanHashMapCursor();
+    }
+
     public void writeExternal(ObjectOutput out) throws IOException
     {
         out.writeInt(this.size());
@@ -1739,4 +1750,52 @@ public class ObjectBooleanHashMap<K> implements MutableObjectBooleanMap<K>, Exte
             }
         }
     }
+
+    private class ObjectBooleanHashMapCursor implements ObjectBooleanMapCursor<K>
+    {
+        private int nextPosition;
+        private int position = -1;
+
+        public boolean advance()
+        {
+            this.position = -1;
+            Object[] keys = ObjectBooleanHashMap.this.keys;
+            while (this.nextPosition < keys.length)
+            {
+                int index = this.nextPosition++;
+                if (ObjectBooleanHashMap.isNonSentinel(keys[index]))
+                {
+                    this.position = index;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public K key()
+        {
+            this.checkPositioned();
+            return ObjectBooleanHashMap.this.toNonSentinel(ObjectBooleanHashMap.this.keys[this.position]);
+        }
+
+        public boolean value()
+        {
+            this.checkPositioned();
+            return ObjectBooleanHashMap.this.values.get(this.position);
+        }
+
+        public void setValue(boolean value)
+        {
+            this.checkPositioned();
+            ObjectBooleanHashMap.this.values.set(this.position, value);
+        }
+
+        private void checkPositioned()
+        {
+            if (this.position < 0)
+            {
+                throw new IllegalStateException("advance() must return true before the current entry is accessed");
+            }
+        }
+    }
 }
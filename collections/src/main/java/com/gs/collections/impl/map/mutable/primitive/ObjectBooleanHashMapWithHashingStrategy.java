@@ -56,6 +56,7 @@ import com.gs.collections.api.list.primitive.MutableBooleanList;
 import com.gs.collections.api.map.primitive.ImmutableObjectBooleanMap;
 import com.gs.collections.api.map.primitive.MutableObjectBooleanMap;
 import com.gs.collections.api.map.primitive.ObjectBooleanMap;
+import com.gs.collections.api.map.primitive.ObjectBooleanMapCursor;
 import com.gs.collections.api.set.primitive.BooleanSet;
 import com.gs.collections.api.set.primitive.MutableBooleanSet;
 import com.gs.collections.api.tuple.primitive.ObjectBooleanPair;
@@ -865,6 +866,16 @@ public class ObjectBooleanHashMapWithHashingStrategy<K> implements MutableObject
         return new KeyValuesView();
     }
 
+    /**
+     * Returns a cursor over the entries of this map that does not allocate per entry.
+     *
+     * @since 7.0
+     */
+    public ObjectBooleanMapCursor<K> cursor()
+    {
+        return new ObjectBooleanHashMapWithHashingStrategyCursor();
+    }
+
     public void writeExternal(ObjectOutput out) throws IOException
     {
         out.writeObject(this.hashingStrategy);
@@ -1752,4 +1763,52 @@ public class ObjectBooleanHashMapWithHashingStrategy<K> implements MutableObject
             }
         }
     }
+
+    private class ObjectBooleanHashMapWithHashingStrategyCursor implements ObjectBooleanMapCursor<K>
+    {
+        private int nextPosition;
+        private int position = -1;
+
+        public boolean advance()
+        {
+            this.position = -1;
+            Object[] keys = ObjectBooleanHashMapWithHashingStrategy.this.keys;
+            while (this.nextPosition < keys.length)
+            {
+                int index = this.nextPosition++;
+                if (ObjectBooleanHashMapWithHashingStrategy.isNonSentinel(keys[index]))
+                {
+                    this.position = index;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public K key()
+        {
+            this.checkPositioned();
+            return ObjectBooleanHashMapWithHashingStrategy.this.toNonSentinel(ObjectBooleanHashMapWithHashingStrategy.this.keys[this.position]);
+        }
+
+        public boolean value()
+        {
+            this.checkPositioned();
+            return ObjectBooleanHashMapWithHashingStrategy.this.values.get(this.position);
+        }
+
+        public void setValue(boolean value)
+        {
+            this.checkPositioned();
+            ObjectBooleanHashMapWithHashingStrategy.this.values.set(this.position, value);
+        }
+
+        private void checkPositioned()
+        {
+            if (this.position < 0)
+            {
+                throw new IllegalStateException("advance() must return true before the current entry is accessed");
+            }
+        }
+    }
 }
@@ -21,7 +21,9 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.SortedMap;
 
+import com.gs.collections.api.IntIterable;
 import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.LongIterable;
 import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
@@ -65,7 +67,10 @@ import com.gs.collections.api.list.primitive.MutableLongList;
 import com.gs.collections.api.list.primitive.MutableShortList;
 import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.api.map.MutableMapIterable;
+import com.gs.collections.api.map.primitive.MutableIntObjectMap;
+import com.gs.collections.api.map.primitive.MutableLongObjectMap;
 import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.ImmutableSortedMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
@@ -77,6 +82,9 @@ import com.gs.collections.api.partition.list.PartitionMutableList;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
 import com.gs.collections.api.stack.MutableStack;
+import com.gs.collections.api.statistics.primitive.DoubleSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.IntSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.LongSummaryStatistics;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.UnmodifiableIteratorAdapter;
 import com.gs.collections.impl.block.factory.PrimitiveFunctions;
@@ -86,6 +94,7 @@ import com.gs.collections.impl.collection.mutable.UnmodifiableMutableCollection;
 import com.gs.collections.impl.factory.SortedMaps;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectIntHashMap;
 import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import com.gs.collections.impl.set.mutable.UnmodifiableMutableSet;
 import com.gs.collections.impl.tuple.AbstractImmutableEntry;
@@ -705,6 +714,41 @@ public class UnmodifiableTreeMap<K, V>
         return this.getMutableSortedMap().sumOfDouble(function);
     }
 
+    public IntSummaryStatistics summarizeInt(IntFunction<? super V> function)
+    {
+        return this.getMutableSortedMap().summarizeInt(function);
+    }
+
+    public LongSummaryStatistics summarizeLong(LongFunction<? super V> function)
+    {
+        return this.getMutableSortedMap().summarizeLong(function);
+    }
+
+    public DoubleSummaryStatistics summarizeDouble(DoubleFunction<? super V> function)
+    {
+        return this.getMutableSortedMap().summarizeDouble(function);
+    }
+
+    public <R extends MutableIntCollection> R flatCollectInt(Function<? super V, ? extends IntIterable> function, R target)
+    {
+        return this.getMutableSortedMap().flatCollectInt(function, target);
+    }
+
+    public <R extends MutableLongCollection> R flatCollectLong(Function<? super V, ? extends LongIterable> function, R target)
+    {
+        return this.getMutableSortedMap().flatCollectLong(function, target);
+    }
+
+    public MutableIntObjectMap<MutableList<V>> groupByInt(IntFunction<? super V> function)
+    {
+        return this.getMutableSortedMap().groupByInt(function);
+    }
+
+    public MutableLongObjectMap<MutableList<V>> groupByLong(LongFunction<? super V> function)
+    {
+        return this.getMutableSortedMap().groupByLong(function);
+    }
+
     public <V1> ObjectLongMap<V1> sumByInt(Function<V, V1> groupBy, IntFunction<? super V> function)
     {
         ObjectLongHashMap<V1> result = ObjectLongHashMap.newMap();
@@ -729,6 +773,24 @@ public class UnmodifiableTreeMap<K, V>
         return this.injectInto(result, PrimitiveFunctions.sumByDoubleFunction(groupBy, function));
     }
 
+    public <V1> ObjectIntMap<V1> aggregateIntBy(Function<? super V, ? extends V1> groupBy, int zeroValue, IntObjectToIntFunction<? super V> aggregator)
+    {
+        ObjectIntHashMap<V1> result = ObjectIntHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.aggregateIntByFunction(groupBy, zeroValue, aggregator));
+    }
+
+    public <V1> ObjectLongMap<V1> aggregateLongBy(Function<? super V, ? extends V1> groupBy, long zeroValue, LongObjectToLongFunction<? super V> aggregator)
+    {
+        ObjectLongHashMap<V1> result = ObjectLongHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.aggregateLongByFunction(groupBy, zeroValue, aggregator));
+    }
+
+    public <V1> ObjectDoubleMap<V1> aggregateDoubleBy(Function<? super V, ? extends V1> groupBy, double zeroValue, DoubleObjectToDoubleFunction<? super V> aggregator)
+    {
+        ObjectDoubleHashMap<V1> result = ObjectDoubleHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.aggregateDoubleByFunction(groupBy, zeroValue, aggregator));
+    }
+
     public String makeString()
     {
         return this.getMutableSortedMap().makeString();
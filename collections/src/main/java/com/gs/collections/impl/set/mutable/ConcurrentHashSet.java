@@ -0,0 +1,276 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.api.set.Pool;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * ConcurrentHashSet is a thread-safe MutableSet and Pool backed by a {@link ConcurrentHashMap}. Lookups never lock,
+ * and additions and removals use the map's compare-and-set updates of single buckets. Many threads can intern values
+ * through {@link #put(Object)} at once without a shared lock:
+ * <p>
+ * <pre>e.g.
+ * String canonical = pool.put(parsedName);
+ * </pre>
+ * <p>
+ * Each element is stored as both the key and the value of a map entry, so every element costs a full map entry,
+ * including a value reference that a dedicated set would not need. Prefer {@link UnifiedSet} when the set is not
+ * shared between threads, since it uses noticeably less memory per element.
+ * <p>
+ * Iterators are weakly consistent, as in ConcurrentHashMap. Null elements are not supported and throw
+ * NullPointerException.
+ *
+ * @since 7.0
+ */
+@ThreadSafe
+public final class ConcurrentHashSet<T>
+        extends AbstractMutableSet<T>
+        implements Pool<T>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private ConcurrentHashMap<T, T> map;
+
+    public ConcurrentHashSet()
+    {
+        this.map = ConcurrentHashMap.newMap();
+    }
+
+    public ConcurrentHashSet(int initialCapacity)
+    {
+        this.map = ConcurrentHashMap.newMap(initialCapacity);
+    }
+
+    public static <K> ConcurrentHashSet<K> newSet()
+    {
+        return new ConcurrentHashSet<K>();
+    }
+
+    public static <K> ConcurrentHashSet<K> newSet(int initialCapacity)
+    {
+        return new ConcurrentHashSet<K>(initialCapacity);
+    }
+
+    public static <K> ConcurrentHashSet<K> newSet(Iterable<? extends K> source)
+    {
+        ConcurrentHashSet<K> result = new ConcurrentHashSet<K>();
+        result.addAllIterable(source);
+        return result;
+    }
+
+    public static <K> ConcurrentHashSet<K> newSetWith(K... elements)
+    {
+        return ConcurrentHashSet.<K>newSet(elements.length).with(elements);
+    }
+
+    @Override
+    public ConcurrentHashSet<T> clone()
+    {
+        return ConcurrentHashSet.newSet(this);
+    }
+
+    @Override
+    public ConcurrentHashSet<T> newEmpty()
+    {
+        return ConcurrentHashSet.newSet();
+    }
+
+    public int size()
+    {
+        return this.map.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.map.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        return this.map.containsKey(o);
+    }
+
+    @Override
+    public boolean add(T element)
+    {
+        return this.map.putIfAbsent(element, element) == null;
+    }
+
+    @Override
+    public boolean remove(Object o)
+    {
+        return this.map.remove(o) != null;
+    }
+
+    public void clear()
+    {
+        this.map.clear();
+    }
+
+    public Iterator<T> iterator()
+    {
+        return this.map.keySet().iterator();
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        this.map.forEachKey(procedure);
+    }
+
+    public T getFirst()
+    {
+        Iterator<T> iterator = this.iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    public T getLast()
+    {
+        T last = null;
+        for (T each : this)
+        {
+            last = each;
+        }
+        return last;
+    }
+
+    /**
+     * Returns the pooled element equal to key, or null if there is none.
+     */
+    public T get(T key)
+    {
+        return this.map.get(key);
+    }
+
+    /**
+     * Adds key if no equal element is pooled, and returns the pooled element. When several threads put equal elements
+     * at once, all of them get the same instance back.
+     */
+    public T put(T key)
+    {
+        T existing = this.map.putIfAbsent(key, key);
+        return existing == null ? key : existing;
+    }
+
+    public T removeFromPool(T key)
+    {
+        return this.map.remove(key);
+    }
+
+    public ConcurrentHashSet<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public ConcurrentHashSet<T> with(T... elements)
+    {
+        for (T element : elements)
+        {
+            this.add(element);
+        }
+        return this;
+    }
+
+    public ConcurrentHashSet<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public ConcurrentHashSet<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    public ConcurrentHashSet<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Beta
+    public ParallelUnsortedSetIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.toSet().asParallel(executorService, batchSize);
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Set))
+        {
+            return false;
+        }
+
+        Set<?> other = (Set<?>) object;
+        return this.size() == other.size() && this.containsAll(other);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (T each : this)
+        {
+            hashCode += each.hashCode();
+        }
+        return hashCode;
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.map = ConcurrentHashMap.newMap(size);
+        for (int i = 0; i < size; i++)
+        {
+            this.add((T) in.readObject());
+        }
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        // Copy first so that the count matches the elements written while other threads change the set
+        FastList<T> elements = FastList.newList(this);
+        out.writeInt(elements.size());
+        for (T element : elements)
+        {
+            out.writeObject(element);
+        }
+    }
+}
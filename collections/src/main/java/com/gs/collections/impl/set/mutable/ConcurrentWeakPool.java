@@ -0,0 +1,159 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+import com.gs.collections.api.set.Pool;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * ConcurrentWeakPool is the thread-safe counterpart of {@link WeakPool}. Its objects are held through weak references
+ * that are stored in a {@link ConcurrentHashMap}, so lookups never lock and threads that put equal objects at the
+ * same time all receive the same pooled instance. Entries whose objects have been garbage collected are removed by
+ * the next call to any method of the pool. Null cannot be pooled.
+ *
+ * @since 7.0
+ */
+@ThreadSafe
+public final class ConcurrentWeakPool<T> implements Pool<T>
+{
+    private final ReferenceQueue<T> queue = new ReferenceQueue<T>();
+
+    private final ConcurrentHashMap<WeakKey<T>, WeakKey<T>> map;
+
+    public ConcurrentWeakPool()
+    {
+        this.map = ConcurrentHashMap.newMap();
+    }
+
+    public ConcurrentWeakPool(int initialCapacity)
+    {
+        this.map = ConcurrentHashMap.newMap(initialCapacity);
+    }
+
+    public static <K> ConcurrentWeakPool<K> newPool()
+    {
+        return new ConcurrentWeakPool<K>();
+    }
+
+    public static <K> ConcurrentWeakPool<K> newPool(int initialCapacity)
+    {
+        return new ConcurrentWeakPool<K>(initialCapacity);
+    }
+
+    public T get(T key)
+    {
+        this.expungeStaleEntries();
+        WeakKey<T> pooled = this.map.get(new WeakKey<T>(key, null));
+        return pooled == null ? null : pooled.get();
+    }
+
+    public T put(T key)
+    {
+        this.expungeStaleEntries();
+        WeakKey<T> candidate = new WeakKey<T>(key, this.queue);
+        while (true)
+        {
+            WeakKey<T> existing = this.map.putIfAbsent(candidate, candidate);
+            if (existing == null)
+            {
+                return key;
+            }
+            T pooled = existing.get();
+            if (pooled != null)
+            {
+                // The candidate was not stored, so it must not be queued when key is collected
+                candidate.clear();
+                return pooled;
+            }
+            // The pooled object was collected after it matched; drop its entry and try again
+            this.map.remove(existing, existing);
+        }
+    }
+
+    public T removeFromPool(T key)
+    {
+        this.expungeStaleEntries();
+        WeakKey<T> removed = this.map.remove(new WeakKey<T>(key, null));
+        if (removed == null)
+        {
+            return null;
+        }
+        T pooled = removed.get();
+        removed.clear();
+        return pooled;
+    }
+
+    public void clear()
+    {
+        this.map.clear();
+    }
+
+    public int size()
+    {
+        this.expungeStaleEntries();
+        return this.map.size();
+    }
+
+    /**
+     * Removes the entries whose objects have been garbage collected. A cleared reference is only equal to itself, so
+     * removing it never removes a live entry.
+     */
+    private void expungeStaleEntries()
+    {
+        for (Reference<? extends T> reference = this.queue.poll(); reference != null; reference = this.queue.poll())
+        {
+            this.map.remove(reference);
+        }
+    }
+
+    private static final class WeakKey<T> extends WeakReference<T>
+    {
+        private final int hashCode;
+
+        private WeakKey(T referent, ReferenceQueue<T> queue)
+        {
+            super(referent, queue);
+            this.hashCode = referent.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof WeakKey<?>))
+            {
+                return false;
+            }
+            Object referent = this.get();
+            return referent != null && referent.equals(((WeakKey<?>) o).get());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+    }
+}
@@ -0,0 +1,534 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.api.set.Pool;
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * UnifiedSetWithCachedHashCodes is a MutableSet and Pool for elements with expensive hashCode and equals methods,
+ * such as long Strings or composite tuples. The elements and the spread hash code of each element are held in parallel
+ * arrays, and the elements that fall into the same bucket are chained through an array of indices. A lookup compares
+ * the stored hash codes before calling equals, and growing the set rebuilds the buckets from the stored hash codes
+ * without calling hashCode again.
+ * <p>
+ * Each element costs two more ints than in {@link UnifiedSet}, so UnifiedSet remains the better choice for elements
+ * with cheap hashCode and equals methods.
+ *
+ * @since 7.0
+ */
+@NotThreadSafe
+@SuppressWarnings("ObjectEquality")
+public class UnifiedSetWithCachedHashCodes<T>
+        extends AbstractMutableSet<T>
+        implements Pool<T>, Externalizable
+{
+    protected static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    protected static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    private static final int NO_ENTRY = -1;
+
+    private static final long serialVersionUID = 1L;
+
+    protected transient Object[] items;
+
+    protected transient int[] hashes;
+
+    protected transient int[] next;
+
+    protected transient int[] buckets;
+
+    protected transient int occupied;
+
+    protected float loadFactor = DEFAULT_LOAD_FACTOR;
+
+    public UnifiedSetWithCachedHashCodes()
+    {
+        this.allocate(DEFAULT_INITIAL_CAPACITY << 1);
+    }
+
+    public UnifiedSetWithCachedHashCodes(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public UnifiedSetWithCachedHashCodes(int initialCapacity, float loadFactor)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        if (loadFactor <= 0.0)
+        {
+            throw new IllegalArgumentException("load factor cannot be less than or equal to 0");
+        }
+        if (loadFactor > 1.0)
+        {
+            throw new IllegalArgumentException("load factor cannot be greater than 1");
+        }
+
+        this.loadFactor = loadFactor;
+        this.init((int) Math.ceil(initialCapacity / loadFactor));
+    }
+
+    public UnifiedSetWithCachedHashCodes(Collection<? extends T> collection)
+    {
+        this(Math.max(collection.size(), DEFAULT_INITIAL_CAPACITY), DEFAULT_LOAD_FACTOR);
+
+        this.addAllIterable(collection);
+    }
+
+    public static <K> UnifiedSetWithCachedHashCodes<K> newSet()
+    {
+        return new UnifiedSetWithCachedHashCodes<K>();
+    }
+
+    public static <K> UnifiedSetWithCachedHashCodes<K> newSet(int size)
+    {
+        return new UnifiedSetWithCachedHashCodes<K>(size);
+    }
+
+    public static <K> UnifiedSetWithCachedHashCodes<K> newSet(int size, float loadFactor)
+    {
+        return new UnifiedSetWithCachedHashCodes<K>(size, loadFactor);
+    }
+
+    public static <K> UnifiedSetWithCachedHashCodes<K> newSet(Iterable<? extends K> source)
+    {
+        if (source instanceof Collection<?>)
+        {
+            return new UnifiedSetWithCachedHashCodes<K>((Collection<? extends K>) source);
+        }
+        UnifiedSetWithCachedHashCodes<K> result = new UnifiedSetWithCachedHashCodes<K>();
+        result.addAllIterable(source);
+        return result;
+    }
+
+    public static <K> UnifiedSetWithCachedHashCodes<K> newSetWith(K... elements)
+    {
+        return UnifiedSetWithCachedHashCodes.<K>newSet(elements.length).with(elements);
+    }
+
+    protected void init(int initialCapacity)
+    {
+        int bucketCount = 1;
+        while (bucketCount < initialCapacity)
+        {
+            bucketCount <<= 1;
+        }
+        this.allocate(bucketCount);
+    }
+
+    protected void allocate(int bucketCount)
+    {
+        this.buckets = new int[bucketCount];
+        Arrays.fill(this.buckets, NO_ENTRY);
+        int capacity = Math.max(1, (int) (bucketCount * this.loadFactor));
+        this.items = new Object[capacity];
+        this.hashes = new int[capacity];
+        this.next = new int[capacity];
+    }
+
+    protected static int spread(Object key)
+    {
+        // Same spreading function as UnifiedSet.index(Object)
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        h ^= h >>> 7 ^ h >>> 4;
+        return h;
+    }
+
+    private int bucket(int hash)
+    {
+        return hash & this.buckets.length - 1;
+    }
+
+    private int indexOf(Object key, int hash)
+    {
+        int index = this.buckets[this.bucket(hash)];
+        while (index != NO_ENTRY)
+        {
+            if (this.hashes[index] == hash && this.nullSafeEquals(this.items[index], key))
+            {
+                return index;
+            }
+            index = this.next[index];
+        }
+        return NO_ENTRY;
+    }
+
+    private boolean nullSafeEquals(Object cur, Object key)
+    {
+        return cur == key || cur != null && cur.equals(key);
+    }
+
+    private void addEntry(T key, int hash)
+    {
+        while (this.occupied == this.items.length)
+        {
+            this.rehash(this.buckets.length << 1);
+        }
+        int index = this.occupied++;
+        int bucket = this.bucket(hash);
+        this.items[index] = key;
+        this.hashes[index] = hash;
+        this.next[index] = this.buckets[bucket];
+        this.buckets[bucket] = index;
+    }
+
+    /**
+     * Grows the bucket array to newBucketCount and relinks the elements using their stored hash codes.
+     */
+    protected void rehash(int newBucketCount)
+    {
+        Object[] oldItems = this.items;
+        int[] oldHashes = this.hashes;
+        this.allocate(newBucketCount);
+        System.arraycopy(oldItems, 0, this.items, 0, this.occupied);
+        System.arraycopy(oldHashes, 0, this.hashes, 0, this.occupied);
+        for (int i = 0; i < this.occupied; i++)
+        {
+            int bucket = this.bucket(this.hashes[i]);
+            this.next[i] = this.buckets[bucket];
+            this.buckets[bucket] = i;
+        }
+    }
+
+    /**
+     * Removes the element at index without calling hashCode or equals, and moves the last element into its place so
+     * that the elements stay contiguous.
+     */
+    protected void removeIndex(int index)
+    {
+        this.relink(index, this.next[index]);
+        int last = --this.occupied;
+        if (index != last)
+        {
+            this.relink(last, index);
+            this.items[index] = this.items[last];
+            this.hashes[index] = this.hashes[last];
+            this.next[index] = this.next[last];
+        }
+        this.items[last] = null;
+    }
+
+    /**
+     * Replaces the reference to the element at index in its bucket chain with link.
+     */
+    private void relink(int index, int link)
+    {
+        int bucket = this.bucket(this.hashes[index]);
+        if (this.buckets[bucket] == index)
+        {
+            this.buckets[bucket] = link;
+            return;
+        }
+        int previous = this.buckets[bucket];
+        while (this.next[previous] != index)
+        {
+            previous = this.next[previous];
+        }
+        this.next[previous] = link;
+    }
+
+    @Override
+    public UnifiedSetWithCachedHashCodes<T> clone()
+    {
+        UnifiedSetWithCachedHashCodes<T> result = new UnifiedSetWithCachedHashCodes<T>(this.size(), this.loadFactor);
+        result.copySet(this);
+        return result;
+    }
+
+    @Override
+    public UnifiedSetWithCachedHashCodes<T> newEmpty()
+    {
+        return UnifiedSetWithCachedHashCodes.newSet();
+    }
+
+    @Override
+    protected <K> UnifiedSetWithCachedHashCodes<K> newEmptySameSize()
+    {
+        return UnifiedSetWithCachedHashCodes.newSet(this.size());
+    }
+
+    public int size()
+    {
+        return this.occupied;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupied == 0;
+    }
+
+    @Override
+    public boolean contains(Object key)
+    {
+        return this.indexOf(key, UnifiedSetWithCachedHashCodes.spread(key)) != NO_ENTRY;
+    }
+
+    @Override
+    public boolean add(T key)
+    {
+        int hash = UnifiedSetWithCachedHashCodes.spread(key);
+        if (this.indexOf(key, hash) != NO_ENTRY)
+        {
+            return false;
+        }
+        this.addEntry(key, hash);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object key)
+    {
+        int index = this.indexOf(key, UnifiedSetWithCachedHashCodes.spread(key));
+        if (index == NO_ENTRY)
+        {
+            return false;
+        }
+        this.removeIndex(index);
+        return true;
+    }
+
+    @Override
+    public boolean addAllIterable(Iterable<? extends T> iterable)
+    {
+        if (iterable instanceof UnifiedSetWithCachedHashCodes<?>)
+        {
+            return this.copySet((UnifiedSetWithCachedHashCodes<T>) iterable);
+        }
+        return super.addAllIterable(iterable);
+    }
+
+    protected boolean copySet(UnifiedSetWithCachedHashCodes<T> other)
+    {
+        int oldSize = this.occupied;
+        for (int i = 0; i < other.occupied; i++)
+        {
+            T key = (T) other.items[i];
+            int hash = other.hashes[i];
+            if (this.indexOf(key, hash) == NO_ENTRY)
+            {
+                this.addEntry(key, hash);
+            }
+        }
+        return this.occupied != oldSize;
+    }
+
+    public void clear()
+    {
+        if (this.occupied == 0)
+        {
+            return;
+        }
+        Arrays.fill(this.items, 0, this.occupied, null);
+        Arrays.fill(this.buckets, NO_ENTRY);
+        this.occupied = 0;
+    }
+
+    public UnifiedSetWithCachedHashCodes<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public UnifiedSetWithCachedHashCodes<T> with(T... elements)
+    {
+        for (T element : elements)
+        {
+            this.add(element);
+        }
+        return this;
+    }
+
+    public UnifiedSetWithCachedHashCodes<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public UnifiedSetWithCachedHashCodes<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    public UnifiedSetWithCachedHashCodes<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        for (int i = 0; i < this.occupied; i++)
+        {
+            procedure.value((T) this.items[i]);
+        }
+    }
+
+    public T getFirst()
+    {
+        return this.occupied == 0 ? null : (T) this.items[0];
+    }
+
+    public T getLast()
+    {
+        return this.occupied == 0 ? null : (T) this.items[this.occupied - 1];
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new PositionalIterator();
+    }
+
+    public T get(T key)
+    {
+        int index = this.indexOf(key, UnifiedSetWithCachedHashCodes.spread(key));
+        return index == NO_ENTRY ? null : (T) this.items[index];
+    }
+
+    public T put(T key)
+    {
+        int hash = UnifiedSetWithCachedHashCodes.spread(key);
+        int index = this.indexOf(key, hash);
+        if (index != NO_ENTRY)
+        {
+            return (T) this.items[index];
+        }
+        this.addEntry(key, hash);
+        return key;
+    }
+
+    public T removeFromPool(T key)
+    {
+        int index = this.indexOf(key, UnifiedSetWithCachedHashCodes.spread(key));
+        if (index == NO_ENTRY)
+        {
+            return null;
+        }
+        T removed = (T) this.items[index];
+        this.removeIndex(index);
+        return removed;
+    }
+
+    @Beta
+    public ParallelUnsortedSetIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.toSet().asParallel(executorService, batchSize);
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Set))
+        {
+            return false;
+        }
+
+        Set<?> other = (Set<?>) object;
+        return this.size() == other.size() && this.containsAll(other);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.occupied; i++)
+        {
+            Object item = this.items[i];
+            hashCode += item == null ? 0 : item.hashCode();
+        }
+        return hashCode;
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.loadFactor = in.readFloat();
+        this.init(Math.max((int) (size / this.loadFactor) + 1, DEFAULT_INITIAL_CAPACITY));
+        for (int i = 0; i < size; i++)
+        {
+            this.add((T) in.readObject());
+        }
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        out.writeFloat(this.loadFactor);
+        for (int i = 0; i < this.occupied; i++)
+        {
+            out.writeObject(this.items[i]);
+        }
+    }
+
+    protected class PositionalIterator implements Iterator<T>
+    {
+        protected int position;
+        protected int lastReturned = NO_ENTRY;
+
+        public boolean hasNext()
+        {
+            return this.position < UnifiedSetWithCachedHashCodes.this.occupied;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException("next() called, but the iterator is exhausted");
+            }
+            this.lastReturned = this.position++;
+            return (T) UnifiedSetWithCachedHashCodes.this.items[this.lastReturned];
+        }
+
+        public void remove()
+        {
+            if (this.lastReturned == NO_ENTRY)
+            {
+                throw new IllegalStateException("remove() must be called after next()");
+            }
+            UnifiedSetWithCachedHashCodes.this.removeIndex(this.lastReturned);
+            // The last element was moved into the removed slot, which has not been visited yet
+            this.position = this.lastReturned;
+            this.lastReturned = NO_ENTRY;
+        }
+    }
+}
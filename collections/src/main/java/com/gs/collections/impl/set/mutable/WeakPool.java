@@ -0,0 +1,247 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+import com.gs.collections.api.set.Pool;
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * WeakPool is a Pool that holds its objects through weak references, so a pooled object that is no longer used
+ * anywhere else can be garbage collected. Entries whose objects have been collected are removed by the next call to
+ * any method of the pool, which keeps a long-lived pool from growing without bound. {@link #size()} may still count
+ * objects that have become unreachable but have not been cleared by the garbage collector yet. Null cannot be pooled.
+ * <p>
+ * Use {@link ConcurrentWeakPool} to share a pool between threads.
+ *
+ * @since 7.0
+ */
+@NotThreadSafe
+public class WeakPool<T> implements Pool<T>
+{
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private final ReferenceQueue<T> queue = new ReferenceQueue<T>();
+
+    private WeakEntry<T>[] table;
+
+    private int size;
+
+    private int maxSize;
+
+    public WeakPool()
+    {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public WeakPool(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        int capacity = 1;
+        while (capacity < initialCapacity / DEFAULT_LOAD_FACTOR)
+        {
+            capacity <<= 1;
+        }
+        this.allocate(capacity);
+    }
+
+    public static <K> WeakPool<K> newPool()
+    {
+        return new WeakPool<K>();
+    }
+
+    public static <K> WeakPool<K> newPool(int initialCapacity)
+    {
+        return new WeakPool<K>(initialCapacity);
+    }
+
+    private void allocate(int capacity)
+    {
+        this.table = new WeakEntry[capacity];
+        this.maxSize = (int) (capacity * DEFAULT_LOAD_FACTOR);
+    }
+
+    protected static int spread(Object key)
+    {
+        // Same spreading function as UnifiedSet.index(Object)
+        int h = key.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        h ^= h >>> 7 ^ h >>> 4;
+        return h;
+    }
+
+    private int index(int hash)
+    {
+        return hash & this.table.length - 1;
+    }
+
+    public T get(T key)
+    {
+        this.expungeStaleEntries();
+        int hash = WeakPool.spread(key);
+        for (WeakEntry<T> e = this.table[this.index(hash)]; e != null; e = e.next)
+        {
+            T pooled = e.get();
+            if (e.hash == hash && pooled != null && pooled.equals(key))
+            {
+                return pooled;
+            }
+        }
+        return null;
+    }
+
+    public T put(T key)
+    {
+        this.expungeStaleEntries();
+        int hash = WeakPool.spread(key);
+        int index = this.index(hash);
+        for (WeakEntry<T> e = this.table[index]; e != null; e = e.next)
+        {
+            T pooled = e.get();
+            if (e.hash == hash && pooled != null && pooled.equals(key))
+            {
+                return pooled;
+            }
+        }
+        this.table[index] = new WeakEntry<T>(key, hash, this.table[index], this.queue);
+        if (++this.size > this.maxSize)
+        {
+            this.rehash();
+        }
+        return key;
+    }
+
+    public T removeFromPool(T key)
+    {
+        this.expungeStaleEntries();
+        int hash = WeakPool.spread(key);
+        int index = this.index(hash);
+        WeakEntry<T> previous = null;
+        for (WeakEntry<T> e = this.table[index]; e != null; e = e.next)
+        {
+            T pooled = e.get();
+            if (e.hash == hash && pooled != null && pooled.equals(key))
+            {
+                this.unlink(index, previous, e);
+                e.clear();
+                return pooled;
+            }
+            previous = e;
+        }
+        return null;
+    }
+
+    public void clear()
+    {
+        // References queued later are not found in the table, so expungeStaleEntries ignores them
+        for (int i = 0; i < this.table.length; i++)
+        {
+            this.table[i] = null;
+        }
+        this.size = 0;
+    }
+
+    public int size()
+    {
+        this.expungeStaleEntries();
+        return this.size;
+    }
+
+    private void rehash()
+    {
+        WeakEntry<T>[] oldTable = this.table;
+        this.allocate(oldTable.length << 1);
+        for (WeakEntry<T> head : oldTable)
+        {
+            WeakEntry<T> e = head;
+            while (e != null)
+            {
+                WeakEntry<T> next = e.next;
+                if (e.get() == null)
+                {
+                    // Already collected; the queued reference is ignored by expungeStaleEntries
+                    e.next = null;
+                    this.size--;
+                }
+                else
+                {
+                    int index = this.index(e.hash);
+                    e.next = this.table[index];
+                    this.table[index] = e;
+                }
+                e = next;
+            }
+        }
+    }
+
+    /**
+     * Removes the entries whose objects have been garbage collected.
+     */
+    private void expungeStaleEntries()
+    {
+        for (Reference<? extends T> reference = this.queue.poll(); reference != null; reference = this.queue.poll())
+        {
+            WeakEntry<T> stale = (WeakEntry<T>) reference;
+            int index = this.index(stale.hash);
+            WeakEntry<T> previous = null;
+            for (WeakEntry<T> e = this.table[index]; e != null; e = e.next)
+            {
+                if (e == stale)
+                {
+                    this.unlink(index, previous, e);
+                    break;
+                }
+                previous = e;
+            }
+        }
+    }
+
+    private void unlink(int index, WeakEntry<T> previous, WeakEntry<T> entry)
+    {
+        if (previous == null)
+        {
+            this.table[index] = entry.next;
+        }
+        else
+        {
+            previous.next = entry.next;
+        }
+        entry.next = null;
+        this.size--;
+    }
+
+    private static final class WeakEntry<T> extends WeakReference<T>
+    {
+        private final int hash;
+        private WeakEntry<T> next;
+
+        private WeakEntry(T referent, int hash, WeakEntry<T> next, ReferenceQueue<T> queue)
+        {
+            super(referent, queue);
+            this.hash = hash;
+            this.next = next;
+        }
+    }
+}
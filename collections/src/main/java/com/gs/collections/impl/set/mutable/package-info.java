@@ -20,6 +20,9 @@
  *     This package contains the following mutable set implementations:
  * <ul>
  *     <li>
+ *          {@link com.gs.collections.impl.set.mutable.ConcurrentHashSet} - a thread safe set and pool backed by a ConcurrentHashMap.
+ *     </li>
+ *     <li>
  *          {@link com.gs.collections.impl.set.mutable.MultiReaderUnifiedSet} -  a thread safe wrapper around UnifiedSet.
  *     </li>
  *     <li>
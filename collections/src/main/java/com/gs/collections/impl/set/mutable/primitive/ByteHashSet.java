@@ -22,14 +22,20 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.ByteIterable;
 import com.gs.collections.api.LazyByteIterable;
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.ParallelByteIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.primitive.MutableByteBag;
 import com.gs.collections.api.block.function.primitive.ByteToObjectFunction;
 import com.gs.collections.api.block.function.primitive.ObjectByteToObjectFunction;
 import com.gs.collections.api.block.predicate.primitive.BytePredicate;
+import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.primitive.ByteProcedure;
 import com.gs.collections.api.iterator.ByteIterator;
 import com.gs.collections.api.iterator.MutableByteIterator;
@@ -39,13 +45,21 @@ import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.primitive.ByteSet;
 import com.gs.collections.api.set.primitive.ImmutableByteSet;
 import com.gs.collections.api.set.primitive.MutableByteSet;
+import com.gs.collections.api.statistics.primitive.ByteSummaryStatistics;
 import com.gs.collections.impl.bag.mutable.primitive.ByteHashBag;
+import com.gs.collections.impl.block.factory.primitive.BytePredicates;
 import com.gs.collections.impl.block.procedure.checked.primitive.CheckedByteProcedure;
 import com.gs.collections.impl.factory.primitive.ByteSets;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.AbstractByteBatch;
+import com.gs.collections.impl.lazy.parallel.primitive.AbstractParallelByteIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.RootByteBatch;
 import com.gs.collections.impl.lazy.primitive.LazyByteIterableAdapter;
 import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
 import com.gs.collections.impl.set.immutable.primitive.ImmutableByteSetSerializationProxy;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.statistics.primitive.ByteSummaryStatisticsAccumulator;
+import com.gs.collections.impl.utility.internal.primitive.ByteArrayQuantile;
 
 public final class ByteHashSet implements MutableByteSet, Externalizable
 {
@@ -847,19 +861,24 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
 
     public double median()
     {
-        if (this.isEmpty())
-        {
-            throw new ArithmeticException();
-        }
-        byte[] sortedArray = this.toSortedArray();
-        int middleIndex = sortedArray.length >> 1;
-        if (sortedArray.length > 1 && (sortedArray.length & 1) == 0)
-        {
-            byte first = sortedArray[middleIndex];
-            byte second = sortedArray[middleIndex - 1];
-            return ((double) first + (double) second) / 2.0;
-        }
-        return (double) sortedArray[middleIndex];
+        return ByteArrayQuantile.median(this.toArray());
+    }
+
+    public double percentile(double percentile)
+    {
+        return ByteArrayQuantile.percentile(this.toArray(), percentile);
+    }
+
+    public double[] quantiles(double... quantiles)
+    {
+        return ByteArrayQuantile.quantiles(this.toArray(), quantiles);
+    }
+
+    public ByteSummaryStatistics summaryStatistics()
+    {
+        ByteSummaryStatisticsAccumulator statistics = new ByteSummaryStatisticsAccumulator();
+        this.forEach(statistics);
+        return statistics;
     }
 
     public byte[] toSortedArray()
@@ -926,6 +945,206 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
         return result;
     }
 
+    /**
+     * Splits the set into one batch per 64-value bit group, so at most four batches are created regardless of the
+     * batch size.
+     *
+     * @since 7.0.
+     */
+    @Beta
+    public ParallelByteIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new ByteHashSetParallelIterable(executorService, batchSize);
+    }
+
+    private final class ByteHashSetBatch extends AbstractByteBatch implements RootByteBatch
+    {
+        private final int bitGroupIndex;
+
+        private ByteHashSetBatch(int bitGroupIndex)
+        {
+            this.bitGroupIndex = bitGroupIndex;
+        }
+
+        private long bitGroup()
+        {
+            switch (this.bitGroupIndex)
+            {
+                case 0:
+                    return ByteHashSet.this.bitGroup1;
+                case 1:
+                    return ByteHashSet.this.bitGroup2;
+                case 2:
+                    return ByteHashSet.this.bitGroup3;
+                default:
+                    return ByteHashSet.this.bitGroup4;
+            }
+        }
+
+        private byte valueOf(int bit)
+        {
+            switch (this.bitGroupIndex)
+            {
+                case 0:
+                    return (byte) ((bit + 65) * -1);
+                case 1:
+                    return (byte) ((bit + 1) * -1);
+                case 2:
+                    return (byte) bit;
+                default:
+                    return (byte) (bit + 64);
+            }
+        }
+
+        public void forEach(ByteProcedure procedure)
+        {
+            long bitGroup = this.bitGroup();
+            while (bitGroup != 0L)
+            {
+                int bit = Long.numberOfTrailingZeros(bitGroup);
+                procedure.value(this.valueOf(bit));
+                bitGroup &= ~(1L << bit);
+            }
+        }
+
+        public boolean anySatisfy(BytePredicate predicate)
+        {
+            long bitGroup = this.bitGroup();
+            while (bitGroup != 0L)
+            {
+                int bit = Long.numberOfTrailingZeros(bitGroup);
+                if (predicate.accept(this.valueOf(bit)))
+                {
+                    return true;
+                }
+                bitGroup &= ~(1L << bit);
+            }
+            return false;
+        }
+
+        public boolean allSatisfy(BytePredicate predicate)
+        {
+            return !this.anySatisfy(BytePredicates.not(predicate));
+        }
+
+        public byte detectIfNone(BytePredicate predicate, byte ifNone)
+        {
+            long bitGroup = this.bitGroup();
+            while (bitGroup != 0L)
+            {
+                int bit = Long.numberOfTrailingZeros(bitGroup);
+                byte value = this.valueOf(bit);
+                if (predicate.accept(value))
+                {
+                    return value;
+                }
+                bitGroup &= ~(1L << bit);
+            }
+            return ifNone;
+        }
+    }
+
+    private final class ByteHashSetParallelIterable extends AbstractParallelByteIterable<RootByteBatch>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private ByteHashSetParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        protected boolean isOrdered()
+        {
+            return false;
+        }
+
+        @Override
+        public LazyIterable<RootByteBatch> split()
+        {
+            return new ByteHashSetParallelSplitLazyIterable();
+        }
+
+        public void forEach(ByteProcedure procedure)
+        {
+            AbstractParallelByteIterable.forEach(this, procedure);
+        }
+
+        public boolean anySatisfy(BytePredicate predicate)
+        {
+            return AbstractParallelByteIterable.anySatisfy(this, predicate);
+        }
+
+        public boolean allSatisfy(BytePredicate predicate)
+        {
+            return AbstractParallelByteIterable.allSatisfy(this, predicate);
+        }
+
+        public byte detectIfNone(BytePredicate predicate, byte ifNone)
+        {
+            return AbstractParallelByteIterable.detectIfNone(this, predicate, ifNone);
+        }
+
+        private class ByteHashSetParallelSplitIterator implements Iterator<RootByteBatch>
+        {
+            protected int bitGroupIndex;
+
+            public boolean hasNext()
+            {
+                return this.bitGroupIndex < 4;
+            }
+
+            public RootByteBatch next()
+            {
+                return new ByteHashSetBatch(this.bitGroupIndex++);
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+
+        private class ByteHashSetParallelSplitLazyIterable
+                extends AbstractLazyIterable<RootByteBatch>
+        {
+            public void each(Procedure<? super RootByteBatch> procedure)
+            {
+                for (RootByteBatch chunk : this)
+                {
+                    procedure.value(chunk);
+                }
+            }
+
+            public Iterator<RootByteBatch> iterator()
+            {
+                return new ByteHashSetParallelSplitIterator();
+            }
+        }
+    }
+
     private static final class ImmutableByteHashSet implements ImmutableByteSet, Serializable
     {
         private static final long serialVersionUID = 1L;
@@ -1400,15 +1619,24 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
 
         public double median()
         {
-            byte[] sortedArray = this.toSortedArray();
-            int middleIndex = sortedArray.length >> 1;
-            if (sortedArray.length > 1 && (sortedArray.length & 1) == 0)
-            {
-                byte first = sortedArray[middleIndex];
-                byte second = sortedArray[middleIndex - 1];
-                return ((double) first + (double) second) / 2.0;
-            }
-            return (double) sortedArray[middleIndex];
+            return ByteArrayQuantile.median(this.toArray());
+        }
+
+        public double percentile(double percentile)
+        {
+            return ByteArrayQuantile.percentile(this.toArray(), percentile);
+        }
+
+        public double[] quantiles(double... quantiles)
+        {
+            return ByteArrayQuantile.quantiles(this.toArray(), quantiles);
+        }
+
+        public ByteSummaryStatistics summaryStatistics()
+        {
+            ByteSummaryStatisticsAccumulator statistics = new ByteSummaryStatisticsAccumulator();
+            this.forEach(statistics);
+            return statistics;
         }
 
         public byte[] toSortedArray()
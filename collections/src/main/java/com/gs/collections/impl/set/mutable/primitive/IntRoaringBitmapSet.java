@@ -0,0 +1,1558 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable.primitive;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.IntIterable;
+import com.gs.collections.api.block.function.primitive.IntToObjectFunction;
+import com.gs.collections.api.block.function.primitive.ObjectIntToObjectFunction;
+import com.gs.collections.api.block.predicate.primitive.IntPredicate;
+import com.gs.collections.api.block.procedure.primitive.IntProcedure;
+import com.gs.collections.api.iterator.IntIterator;
+import com.gs.collections.api.iterator.MutableIntIterator;
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.set.primitive.ImmutableIntSet;
+import com.gs.collections.api.set.primitive.IntSet;
+import com.gs.collections.api.set.primitive.MutableIntSet;
+import com.gs.collections.impl.iterator.UnmodifiableIntIterator;
+import com.gs.collections.impl.set.immutable.primitive.AbstractImmutableIntSet;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.set.primitive.AbstractIntSet;
+
+/**
+ * IntRoaringBitmapSet is a compressed bitmap set of ints in the style of Roaring bitmaps. Values are partitioned by
+ * their high 16 bits into containers, kept in a sorted array of keys, and each container stores the low 16 bits either
+ * as a sorted char array, while it holds at most {@value #ARRAY_CONTAINER_MAX} values, or as a 65536 bit bitmap once it
+ * is denser. Dense and clustered data, such as ids, take far less memory than in an {@link IntHashSet}, and iteration
+ * is always in ascending order.
+ * <p>
+ * Union, intersection and difference with another IntRoaringBitmapSet, whether through {@link #union(IntIterable)},
+ * {@link #intersect(IntIterable)} and {@link #difference(IntIterable)} or through {@link #addAll(IntIterable)},
+ * {@link #retainAll(IntIterable)} and {@link #removeAll(IntIterable)}, work a container at a time and a whole 64 bit
+ * word at a time between bitmaps. Any other IntIterable, such as an IntHashSet, is handled by iterating whichever side
+ * is smaller.
+ *
+ * @since 7.0.
+ */
+public final class IntRoaringBitmapSet extends AbstractIntSet implements MutableIntSet, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int ARRAY_CONTAINER_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024;
+    private static final int MAX_LOW = 0xFFFF;
+    private static final char[] EMPTY_KEYS = new char[0];
+    private static final Container[] EMPTY_CONTAINERS = new Container[0];
+
+    private char[] keys;
+    private Container[] containers;
+    private int containerCount;
+    private int size;
+
+    public IntRoaringBitmapSet()
+    {
+        this.keys = EMPTY_KEYS;
+        this.containers = EMPTY_CONTAINERS;
+    }
+
+    public IntRoaringBitmapSet(int... elements)
+    {
+        this();
+        this.addAll(elements);
+    }
+
+    private IntRoaringBitmapSet(char[] keys, Container[] containers, int containerCount, int size)
+    {
+        this.keys = keys;
+        this.containers = containers;
+        this.containerCount = containerCount;
+        this.size = size;
+    }
+
+    public static IntRoaringBitmapSet newSet(IntIterable source)
+    {
+        IntRoaringBitmapSet result = new IntRoaringBitmapSet();
+        result.addAll(source);
+        return result;
+    }
+
+    public static IntRoaringBitmapSet newSetWith(int... source)
+    {
+        return new IntRoaringBitmapSet(source);
+    }
+
+    /**
+     * Containers are keyed on the high 16 bits with the sign bit flipped, so that the unsigned order of the keys is the
+     * signed order of the values.
+     */
+    private static char highBits(int value)
+    {
+        return (char) ((value ^ Integer.MIN_VALUE) >>> 16);
+    }
+
+    private static int lowBits(int value)
+    {
+        return value & MAX_LOW;
+    }
+
+    private static int base(char high)
+    {
+        return (high << 16) ^ Integer.MIN_VALUE;
+    }
+
+    private int containerIndex(char high)
+    {
+        return Arrays.binarySearch(this.keys, 0, this.containerCount, high);
+    }
+
+    private void insertContainer(int index, char high, Container container)
+    {
+        if (this.containerCount == this.keys.length)
+        {
+            int newLength = this.keys.length + this.keys.length / 2 + 1;
+            this.keys = Arrays.copyOf(this.keys, newLength);
+            this.containers = Arrays.copyOf(this.containers, newLength);
+        }
+        System.arraycopy(this.keys, index, this.keys, index + 1, this.containerCount - index);
+        System.arraycopy(this.containers, index, this.containers, index + 1, this.containerCount - index);
+        this.keys[index] = high;
+        this.containers[index] = container;
+        this.containerCount++;
+    }
+
+    private void removeContainer(int index)
+    {
+        System.arraycopy(this.keys, index + 1, this.keys, index, this.containerCount - index - 1);
+        System.arraycopy(this.containers, index + 1, this.containers, index, this.containerCount - index - 1);
+        this.containerCount--;
+        this.containers[this.containerCount] = null;
+    }
+
+    private IntRoaringBitmapSet copy()
+    {
+        IntRoaringBitmapSet result = new IntRoaringBitmapSet(new char[this.containerCount], new Container[this.containerCount], this.containerCount, this.size);
+        System.arraycopy(this.keys, 0, result.keys, 0, this.containerCount);
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            result.containers[i] = this.containers[i].copy();
+        }
+        return result;
+    }
+
+    private void become(IntRoaringBitmapSet other)
+    {
+        this.keys = other.keys;
+        this.containers = other.containers;
+        this.containerCount = other.containerCount;
+        this.size = other.size;
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public boolean contains(int value)
+    {
+        int index = this.containerIndex(IntRoaringBitmapSet.highBits(value));
+        return index >= 0 && this.containers[index].contains(IntRoaringBitmapSet.lowBits(value));
+    }
+
+    public void forEach(IntProcedure procedure)
+    {
+        this.each(procedure);
+    }
+
+    public void each(IntProcedure procedure)
+    {
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            this.containers[i].forEach(IntRoaringBitmapSet.base(this.keys[i]), procedure);
+        }
+    }
+
+    public int[] toArray()
+    {
+        final int[] result = new int[this.size];
+        this.each(new IntProcedure()
+        {
+            private int index;
+
+            public void value(int each)
+            {
+                result[this.index] = each;
+                this.index++;
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public int[] toSortedArray()
+    {
+        return this.toArray();
+    }
+
+    public int detectIfNone(IntPredicate predicate, int ifNone)
+    {
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            int base = IntRoaringBitmapSet.base(this.keys[i]);
+            int low = this.containers[i].firstMatch(base, predicate, true);
+            if (low >= 0)
+            {
+                return base | low;
+            }
+        }
+        return ifNone;
+    }
+
+    public int count(IntPredicate predicate)
+    {
+        int count = 0;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            count += this.containers[i].count(IntRoaringBitmapSet.base(this.keys[i]), predicate);
+        }
+        return count;
+    }
+
+    public boolean anySatisfy(IntPredicate predicate)
+    {
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            if (this.containers[i].firstMatch(IntRoaringBitmapSet.base(this.keys[i]), predicate, true) >= 0)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean allSatisfy(IntPredicate predicate)
+    {
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            if (this.containers[i].firstMatch(IntRoaringBitmapSet.base(this.keys[i]), predicate, false) >= 0)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean noneSatisfy(IntPredicate predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
+    public <T> T injectInto(T injectedValue, ObjectIntToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            result = function.valueOf(result, iterator.next());
+        }
+        return result;
+    }
+
+    public long sum()
+    {
+        long result = 0L;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            result += this.containers[i].sum(IntRoaringBitmapSet.base(this.keys[i]));
+        }
+        return result;
+    }
+
+    public int max()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        int last = this.containerCount - 1;
+        return IntRoaringBitmapSet.base(this.keys[last]) | this.containers[last].lastLow();
+    }
+
+    public int min()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        return IntRoaringBitmapSet.base(this.keys[0]) | this.containers[0].nextLow(0);
+    }
+
+    @Override
+    public int maxIfEmpty(int defaultValue)
+    {
+        return this.size == 0 ? defaultValue : this.max();
+    }
+
+    @Override
+    public int minIfEmpty(int defaultValue)
+    {
+        return this.size == 0 ? defaultValue : this.min();
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return (int) this.sum();
+    }
+
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        try
+        {
+            appendable.append(start);
+            IntIterator iterator = this.intIterator();
+            if (iterator.hasNext())
+            {
+                appendable.append(String.valueOf(iterator.next()));
+                while (iterator.hasNext())
+                {
+                    appendable.append(separator);
+                    appendable.append(String.valueOf(iterator.next()));
+                }
+            }
+            appendable.append(end);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public MutableIntIterator intIterator()
+    {
+        return new InternalIterator();
+    }
+
+    public IntRoaringBitmapSet select(IntPredicate predicate)
+    {
+        return this.selectValues(predicate, true);
+    }
+
+    public IntRoaringBitmapSet reject(IntPredicate predicate)
+    {
+        return this.selectValues(predicate, false);
+    }
+
+    private IntRoaringBitmapSet selectValues(final IntPredicate predicate, final boolean accept)
+    {
+        final IntRoaringBitmapSet result = new IntRoaringBitmapSet();
+        this.each(new IntProcedure()
+        {
+            public void value(int each)
+            {
+                if (predicate.accept(each) == accept)
+                {
+                    result.add(each);
+                }
+            }
+        });
+        return result;
+    }
+
+    public <V> MutableSet<V> collect(final IntToObjectFunction<? extends V> function)
+    {
+        final MutableSet<V> target = UnifiedSet.newSet(this.size);
+        this.each(new IntProcedure()
+        {
+            public void value(int each)
+            {
+                target.add(function.valueOf(each));
+            }
+        });
+        return target;
+    }
+
+    public boolean add(int element)
+    {
+        char high = IntRoaringBitmapSet.highBits(element);
+        int index = this.containerIndex(high);
+        if (index < 0)
+        {
+            index = -index - 1;
+            this.insertContainer(index, high, new ArrayContainer());
+        }
+        Container container = this.containers[index];
+        if (!container.add(IntRoaringBitmapSet.lowBits(element)))
+        {
+            return false;
+        }
+        this.containers[index] = container.optimize();
+        this.size++;
+        return true;
+    }
+
+    /**
+     * Sorts the elements before adding them, so that consecutive adds land in the same container.
+     */
+    public boolean addAll(int... source)
+    {
+        if (source.length == 0)
+        {
+            return false;
+        }
+        int[] sorted = source.clone();
+        Arrays.sort(sorted);
+        int oldSize = this.size;
+        for (int each : sorted)
+        {
+            this.add(each);
+        }
+        return oldSize != this.size;
+    }
+
+    public boolean addAll(IntIterable source)
+    {
+        if (source instanceof IntRoaringBitmapSet)
+        {
+            int oldSize = this.size;
+            this.become(IntRoaringBitmapSet.or(this, (IntRoaringBitmapSet) source, true));
+            return oldSize != this.size;
+        }
+        return this.addAll(source.toArray());
+    }
+
+    public boolean remove(int value)
+    {
+        int index = this.containerIndex(IntRoaringBitmapSet.highBits(value));
+        if (index < 0)
+        {
+            return false;
+        }
+        Container container = this.containers[index];
+        if (!container.remove(IntRoaringBitmapSet.lowBits(value)))
+        {
+            return false;
+        }
+        this.size--;
+        if (container.cardinality() == 0)
+        {
+            this.removeContainer(index);
+        }
+        else
+        {
+            this.containers[index] = container.optimize();
+        }
+        return true;
+    }
+
+    public boolean removeAll(IntIterable source)
+    {
+        int oldSize = this.size;
+        if (source instanceof IntRoaringBitmapSet)
+        {
+            this.become(IntRoaringBitmapSet.andNot(this, (IntRoaringBitmapSet) source, true));
+        }
+        else if (source instanceof IntSet && source.size() > this.size)
+        {
+            this.retainValues((IntSet) source, false);
+        }
+        else
+        {
+            source.forEach(new IntProcedure()
+            {
+                public void value(int each)
+                {
+                    IntRoaringBitmapSet.this.remove(each);
+                }
+            });
+        }
+        return oldSize != this.size;
+    }
+
+    public boolean removeAll(int... source)
+    {
+        int oldSize = this.size;
+        for (int each : source)
+        {
+            this.remove(each);
+        }
+        return oldSize != this.size;
+    }
+
+    public boolean retainAll(IntIterable source)
+    {
+        int oldSize = this.size;
+        if (source instanceof IntRoaringBitmapSet)
+        {
+            this.become(IntRoaringBitmapSet.and(this, (IntRoaringBitmapSet) source));
+        }
+        else if (source instanceof IntSet && source.size() >= this.size)
+        {
+            this.retainValues((IntSet) source, true);
+        }
+        else
+        {
+            this.become(IntRoaringBitmapSet.and(this, IntRoaringBitmapSet.newSet(source)));
+        }
+        return oldSize != this.size;
+    }
+
+    public boolean retainAll(int... source)
+    {
+        return this.retainAll(IntRoaringBitmapSet.newSetWith(source));
+    }
+
+    private void retainValues(final IntSet set, boolean contained)
+    {
+        this.become(this.selectValues(new IntPredicate()
+        {
+            public boolean accept(int value)
+            {
+                return set.contains(value);
+            }
+        }, contained));
+    }
+
+    /**
+     * Returns a new set of the elements in this set or in {@code elements}, leaving this set unchanged.
+     */
+    public IntRoaringBitmapSet union(IntIterable elements)
+    {
+        if (elements instanceof IntRoaringBitmapSet)
+        {
+            return IntRoaringBitmapSet.or(this, (IntRoaringBitmapSet) elements, false);
+        }
+        IntRoaringBitmapSet result = this.copy();
+        result.addAll(elements);
+        return result;
+    }
+
+    /**
+     * Returns a new set of the elements in both this set and {@code elements}, leaving this set unchanged.
+     */
+    public IntRoaringBitmapSet intersect(IntIterable elements)
+    {
+        if (elements instanceof IntRoaringBitmapSet)
+        {
+            return IntRoaringBitmapSet.and(this, (IntRoaringBitmapSet) elements);
+        }
+        final IntSet set = elements instanceof IntSet ? (IntSet) elements : elements.toSet();
+        return this.select(new IntPredicate()
+        {
+            public boolean accept(int value)
+            {
+                return set.contains(value);
+            }
+        });
+    }
+
+    /**
+     * Returns a new set of the elements in this set but not in {@code elements}, leaving this set unchanged.
+     */
+    public IntRoaringBitmapSet difference(IntIterable elements)
+    {
+        if (elements instanceof IntRoaringBitmapSet)
+        {
+            return IntRoaringBitmapSet.andNot(this, (IntRoaringBitmapSet) elements, false);
+        }
+        final IntSet set = elements instanceof IntSet ? (IntSet) elements : elements.toSet();
+        return this.reject(new IntPredicate()
+        {
+            public boolean accept(int value)
+            {
+                return set.contains(value);
+            }
+        });
+    }
+
+    public void clear()
+    {
+        this.keys = EMPTY_KEYS;
+        this.containers = EMPTY_CONTAINERS;
+        this.containerCount = 0;
+        this.size = 0;
+    }
+
+    public IntRoaringBitmapSet with(int element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public IntRoaringBitmapSet without(int element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public IntRoaringBitmapSet withAll(IntIterable elements)
+    {
+        this.addAll(elements);
+        return this;
+    }
+
+    public IntRoaringBitmapSet withoutAll(IntIterable elements)
+    {
+        this.removeAll(elements);
+        return this;
+    }
+
+    public MutableIntSet asUnmodifiable()
+    {
+        return new UnmodifiableIntSet(this);
+    }
+
+    public MutableIntSet asSynchronized()
+    {
+        return new SynchronizedIntSet(this);
+    }
+
+    public IntSet freeze()
+    {
+        return this.toImmutable();
+    }
+
+    public ImmutableIntSet toImmutable()
+    {
+        return ImmutableIntRoaringBitmapSet.of(this.copy());
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.containerCount);
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            out.writeChar(this.keys[i]);
+            this.containers[i].write(out);
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException
+    {
+        int containerCount = in.readInt();
+        this.keys = new char[containerCount];
+        this.containers = new Container[containerCount];
+        this.containerCount = containerCount;
+        this.size = 0;
+        for (int i = 0; i < containerCount; i++)
+        {
+            this.keys[i] = in.readChar();
+            int cardinality = in.readInt();
+            this.containers[i] = cardinality > ARRAY_CONTAINER_MAX
+                    ? BitmapContainer.read(in, cardinality)
+                    : ArrayContainer.read(in, cardinality);
+            this.size += cardinality;
+        }
+    }
+
+    private static IntRoaringBitmapSet or(IntRoaringBitmapSet left, IntRoaringBitmapSet right, boolean reuseLeft)
+    {
+        int length = left.containerCount + right.containerCount;
+        char[] keys = new char[length];
+        Container[] containers = new Container[length];
+        int count = 0;
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.containerCount || j < right.containerCount)
+        {
+            if (j == right.containerCount || i < left.containerCount && left.keys[i] < right.keys[j])
+            {
+                keys[count] = left.keys[i];
+                containers[count] = reuseLeft ? left.containers[i] : left.containers[i].copy();
+                i++;
+            }
+            else if (i == left.containerCount || right.keys[j] < left.keys[i])
+            {
+                keys[count] = right.keys[j];
+                containers[count] = right.containers[j].copy();
+                j++;
+            }
+            else
+            {
+                keys[count] = left.keys[i];
+                containers[count] = IntRoaringBitmapSet.or(left.containers[i], right.containers[j]);
+                i++;
+                j++;
+            }
+            size += containers[count].cardinality();
+            count++;
+        }
+        return new IntRoaringBitmapSet(keys, containers, count, size);
+    }
+
+    private static IntRoaringBitmapSet and(IntRoaringBitmapSet left, IntRoaringBitmapSet right)
+    {
+        int length = Math.min(left.containerCount, right.containerCount);
+        char[] keys = new char[length];
+        Container[] containers = new Container[length];
+        int count = 0;
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.containerCount && j < right.containerCount)
+        {
+            if (left.keys[i] < right.keys[j])
+            {
+                i++;
+            }
+            else if (right.keys[j] < left.keys[i])
+            {
+                j++;
+            }
+            else
+            {
+                Container container = IntRoaringBitmapSet.and(left.containers[i], right.containers[j]);
+                if (container != null)
+                {
+                    keys[count] = left.keys[i];
+                    containers[count] = container;
+                    size += container.cardinality();
+                    count++;
+                }
+                i++;
+                j++;
+            }
+        }
+        return new IntRoaringBitmapSet(keys, containers, count, size);
+    }
+
+    private static IntRoaringBitmapSet andNot(IntRoaringBitmapSet left, IntRoaringBitmapSet right, boolean reuseLeft)
+    {
+        char[] keys = new char[left.containerCount];
+        Container[] containers = new Container[left.containerCount];
+        int count = 0;
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.containerCount)
+        {
+            Container container;
+            if (j == right.containerCount || left.keys[i] < right.keys[j])
+            {
+                container = reuseLeft ? left.containers[i] : left.containers[i].copy();
+            }
+            else if (right.keys[j] < left.keys[i])
+            {
+                j++;
+                continue;
+            }
+            else
+            {
+                container = IntRoaringBitmapSet.andNot(left.containers[i], right.containers[j]);
+                j++;
+            }
+            if (container != null)
+            {
+                keys[count] = left.keys[i];
+                containers[count] = container;
+                size += container.cardinality();
+                count++;
+            }
+            i++;
+        }
+        return new IntRoaringBitmapSet(keys, containers, count, size);
+    }
+
+    private static Container or(Container left, Container right)
+    {
+        if (left instanceof BitmapContainer)
+        {
+            return ((BitmapContainer) left).copy().orWith(right);
+        }
+        if (right instanceof BitmapContainer)
+        {
+            return ((BitmapContainer) right).copy().orWith(left);
+        }
+        return ((ArrayContainer) left).merge((ArrayContainer) right).optimize();
+    }
+
+    private static Container and(Container left, Container right)
+    {
+        Container result;
+        if (left instanceof ArrayContainer)
+        {
+            result = ((ArrayContainer) left).filter(right, true);
+        }
+        else if (right instanceof ArrayContainer)
+        {
+            result = ((ArrayContainer) right).filter(left, true);
+        }
+        else
+        {
+            result = ((BitmapContainer) left).copy().andWith((BitmapContainer) right).optimize();
+        }
+        return result.cardinality() == 0 ? null : result;
+    }
+
+    private static Container andNot(Container left, Container right)
+    {
+        Container result = left instanceof ArrayContainer
+                ? ((ArrayContainer) left).filter(right, false)
+                : ((BitmapContainer) left).copy().andNotWith(right).optimize();
+        return result.cardinality() == 0 ? null : result;
+    }
+
+    /**
+     * The low 16 bits of the values that share one high 16 bit key.
+     */
+    private abstract static class Container
+    {
+        abstract int cardinality();
+
+        abstract boolean contains(int low);
+
+        abstract boolean add(int low);
+
+        abstract boolean remove(int low);
+
+        /**
+         * Returns the smallest low value that is at least {@code fromInclusive}, or -1 if there is none.
+         */
+        abstract int nextLow(int fromInclusive);
+
+        abstract int lastLow();
+
+        abstract void forEach(int base, IntProcedure procedure);
+
+        /**
+         * Returns the first low value for which the predicate returns {@code accept}, or -1 if there is none.
+         */
+        abstract int firstMatch(int base, IntPredicate predicate, boolean accept);
+
+        abstract int count(int base, IntPredicate predicate);
+
+        abstract long sum(int base);
+
+        abstract Container copy();
+
+        /**
+         * Returns this container, or an equivalent one of the other kind if that is smaller for the current cardinality.
+         */
+        abstract Container optimize();
+
+        abstract void write(ObjectOutput out) throws IOException;
+    }
+
+    private static final class ArrayContainer extends Container
+    {
+        private char[] values;
+        private int cardinality;
+
+        private ArrayContainer()
+        {
+            this.values = new char[4];
+        }
+
+        private ArrayContainer(char[] values, int cardinality)
+        {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        private static ArrayContainer read(ObjectInput in, int cardinality) throws IOException
+        {
+            char[] values = new char[cardinality];
+            for (int i = 0; i < cardinality; i++)
+            {
+                values[i] = in.readChar();
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(int low)
+        {
+            return Arrays.binarySearch(this.values, 0, this.cardinality, (char) low) >= 0;
+        }
+
+        @Override
+        boolean add(int low)
+        {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, (char) low);
+            if (index >= 0)
+            {
+                return false;
+            }
+            int insertionPoint = -index - 1;
+            if (this.cardinality == this.values.length)
+            {
+                this.values = Arrays.copyOf(this.values, this.values.length + this.values.length / 2 + 1);
+            }
+            System.arraycopy(this.values, insertionPoint, this.values, insertionPoint + 1, this.cardinality - insertionPoint);
+            this.values[insertionPoint] = (char) low;
+            this.cardinality++;
+            return true;
+        }
+
+        @Override
+        boolean remove(int low)
+        {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, (char) low);
+            if (index < 0)
+            {
+                return false;
+            }
+            System.arraycopy(this.values, index + 1, this.values, index, this.cardinality - index - 1);
+            this.cardinality--;
+            return true;
+        }
+
+        @Override
+        int nextLow(int fromInclusive)
+        {
+            if (fromInclusive > MAX_LOW)
+            {
+                return -1;
+            }
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, (char) fromInclusive);
+            if (index < 0)
+            {
+                index = -index - 1;
+            }
+            return index < this.cardinality ? this.values[index] : -1;
+        }
+
+        @Override
+        int lastLow()
+        {
+            return this.values[this.cardinality - 1];
+        }
+
+        @Override
+        void forEach(int base, IntProcedure procedure)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                procedure.value(base | this.values[i]);
+            }
+        }
+
+        @Override
+        int firstMatch(int base, IntPredicate predicate, boolean accept)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                if (predicate.accept(base | this.values[i]) == accept)
+                {
+                    return this.values[i];
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int count(int base, IntPredicate predicate)
+        {
+            int count = 0;
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                if (predicate.accept(base | this.values[i]))
+                {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        long sum(int base)
+        {
+            long result = 0L;
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                result += base | this.values[i];
+            }
+            return result;
+        }
+
+        @Override
+        ArrayContainer copy()
+        {
+            return new ArrayContainer(Arrays.copyOf(this.values, this.cardinality), this.cardinality);
+        }
+
+        @Override
+        Container optimize()
+        {
+            if (this.cardinality <= ARRAY_CONTAINER_MAX)
+            {
+                return this;
+            }
+            BitmapContainer bitmap = new BitmapContainer(new long[BITMAP_WORDS], 0);
+            return bitmap.orWith(this);
+        }
+
+        private ArrayContainer merge(ArrayContainer other)
+        {
+            char[] merged = new char[this.cardinality + other.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < this.cardinality && j < other.cardinality)
+            {
+                char left = this.values[i];
+                char right = other.values[j];
+                if (left <= right)
+                {
+                    merged[count] = left;
+                    i++;
+                    if (left == right)
+                    {
+                        j++;
+                    }
+                }
+                else
+                {
+                    merged[count] = right;
+                    j++;
+                }
+                count++;
+            }
+            while (i < this.cardinality)
+            {
+                merged[count] = this.values[i];
+                i++;
+                count++;
+            }
+            while (j < other.cardinality)
+            {
+                merged[count] = other.values[j];
+                j++;
+                count++;
+            }
+            return new ArrayContainer(merged, count);
+        }
+
+        private ArrayContainer filter(Container other, boolean contained)
+        {
+            char[] filtered = new char[this.cardinality];
+            int count = 0;
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                if (other.contains(this.values[i]) == contained)
+                {
+                    filtered[count] = this.values[i];
+                    count++;
+                }
+            }
+            return new ArrayContainer(filtered, count);
+        }
+
+        @Override
+        void write(ObjectOutput out) throws IOException
+        {
+            out.writeInt(this.cardinality);
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                out.writeChar(this.values[i]);
+            }
+        }
+    }
+
+    private static final class BitmapContainer extends Container
+    {
+        private final long[] words;
+        private int cardinality;
+
+        private BitmapContainer(long[] words, int cardinality)
+        {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        private static BitmapContainer read(ObjectInput in, int cardinality) throws IOException
+        {
+            long[] words = new long[BITMAP_WORDS];
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                words[i] = in.readLong();
+            }
+            return new BitmapContainer(words, cardinality);
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(int low)
+        {
+            return (this.words[low >>> 6] & (1L << low)) != 0L;
+        }
+
+        @Override
+        boolean add(int low)
+        {
+            int index = low >>> 6;
+            long word = this.words[index];
+            long bit = 1L << low;
+            if ((word & bit) != 0L)
+            {
+                return false;
+            }
+            this.words[index] = word | bit;
+            this.cardinality++;
+            return true;
+        }
+
+        @Override
+        boolean remove(int low)
+        {
+            int index = low >>> 6;
+            long word = this.words[index];
+            long bit = 1L << low;
+            if ((word & bit) == 0L)
+            {
+                return false;
+            }
+            this.words[index] = word & ~bit;
+            this.cardinality--;
+            return true;
+        }
+
+        @Override
+        int nextLow(int fromInclusive)
+        {
+            if (fromInclusive > MAX_LOW)
+            {
+                return -1;
+            }
+            int index = fromInclusive >>> 6;
+            long word = this.words[index] & (-1L << fromInclusive);
+            while (word == 0L)
+            {
+                index++;
+                if (index == BITMAP_WORDS)
+                {
+                    return -1;
+                }
+                word = this.words[index];
+            }
+            return (index << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+        @Override
+        int lastLow()
+        {
+            for (int index = BITMAP_WORDS - 1; index >= 0; index--)
+            {
+                long word = this.words[index];
+                if (word != 0L)
+                {
+                    return (index << 6) + 63 - Long.numberOfLeadingZeros(word);
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        void forEach(int base, IntProcedure procedure)
+        {
+            for (int index = 0; index < BITMAP_WORDS; index++)
+            {
+                long word = this.words[index];
+                while (word != 0L)
+                {
+                    procedure.value(base | ((index << 6) + Long.numberOfTrailingZeros(word)));
+                    word &= word - 1L;
+                }
+            }
+        }
+
+        @Override
+        int firstMatch(int base, IntPredicate predicate, boolean accept)
+        {
+            for (int index = 0; index < BITMAP_WORDS; index++)
+            {
+                long word = this.words[index];
+                while (word != 0L)
+                {
+                    int low = (index << 6) + Long.numberOfTrailingZeros(word);
+                    if (predicate.accept(base | low) == accept)
+                    {
+                        return low;
+                    }
+                    word &= word - 1L;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int count(int base, IntPredicate predicate)
+        {
+            int count = 0;
+            for (int index = 0; index < BITMAP_WORDS; index++)
+            {
+                long word = this.words[index];
+                while (word != 0L)
+                {
+                    if (predicate.accept(base | ((index << 6) + Long.numberOfTrailingZeros(word))))
+                    {
+                        count++;
+                    }
+                    word &= word - 1L;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        long sum(int base)
+        {
+            long result = 0L;
+            for (int index = 0; index < BITMAP_WORDS; index++)
+            {
+                long word = this.words[index];
+                while (word != 0L)
+                {
+                    result += base | ((index << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1L;
+                }
+            }
+            return result;
+        }
+
+        @Override
+        BitmapContainer copy()
+        {
+            return new BitmapContainer(this.words.clone(), this.cardinality);
+        }
+
+        @Override
+        Container optimize()
+        {
+            if (this.cardinality > ARRAY_CONTAINER_MAX)
+            {
+                return this;
+            }
+            char[] values = new char[this.cardinality];
+            int count = 0;
+            for (int index = 0; index < BITMAP_WORDS; index++)
+            {
+                long word = this.words[index];
+                while (word != 0L)
+                {
+                    values[count] = (char) ((index << 6) + Long.numberOfTrailingZeros(word));
+                    count++;
+                    word &= word - 1L;
+                }
+            }
+            return new ArrayContainer(values, count);
+        }
+
+        private BitmapContainer orWith(Container other)
+        {
+            if (other instanceof BitmapContainer)
+            {
+                long[] otherWords = ((BitmapContainer) other).words;
+                for (int index = 0; index < BITMAP_WORDS; index++)
+                {
+                    this.words[index] |= otherWords[index];
+                }
+                return this.recount();
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            for (int i = 0; i < array.cardinality; i++)
+            {
+                this.add(array.values[i]);
+            }
+            return this;
+        }
+
+        private BitmapContainer andWith(BitmapContainer other)
+        {
+            for (int index = 0; index < BITMAP_WORDS; index++)
+            {
+                this.words[index] &= other.words[index];
+            }
+            return this.recount();
+        }
+
+        private BitmapContainer andNotWith(Container other)
+        {
+            if (other instanceof BitmapContainer)
+            {
+                long[] otherWords = ((BitmapContainer) other).words;
+                for (int index = 0; index < BITMAP_WORDS; index++)
+                {
+                    this.words[index] &= ~otherWords[index];
+                }
+                return this.recount();
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            for (int i = 0; i < array.cardinality; i++)
+            {
+                this.remove(array.values[i]);
+            }
+            return this;
+        }
+
+        private BitmapContainer recount()
+        {
+            int cardinality = 0;
+            for (int index = 0; index < BITMAP_WORDS; index++)
+            {
+                cardinality += Long.bitCount(this.words[index]);
+            }
+            this.cardinality = cardinality;
+            return this;
+        }
+
+        @Override
+        void write(ObjectOutput out) throws IOException
+        {
+            out.writeInt(this.cardinality);
+            for (int index = 0; index < BITMAP_WORDS; index++)
+            {
+                out.writeLong(this.words[index]);
+            }
+        }
+    }
+
+    private class InternalIterator implements MutableIntIterator
+    {
+        private int count;
+        private int containerIndex;
+        private int nextLow;
+        private int lastReturned;
+        private boolean canRemove;
+
+        public boolean hasNext()
+        {
+            return this.count < IntRoaringBitmapSet.this.size;
+        }
+
+        public int next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException("next() called, but the iterator is exhausted");
+            }
+            int low = IntRoaringBitmapSet.this.containers[this.containerIndex].nextLow(this.nextLow);
+            while (low < 0)
+            {
+                this.containerIndex++;
+                low = IntRoaringBitmapSet.this.containers[this.containerIndex].nextLow(0);
+            }
+            this.nextLow = low + 1;
+            this.lastReturned = IntRoaringBitmapSet.base(IntRoaringBitmapSet.this.keys[this.containerIndex]) | low;
+            this.count++;
+            this.canRemove = true;
+            return this.lastReturned;
+        }
+
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            int oldContainerCount = IntRoaringBitmapSet.this.containerCount;
+            IntRoaringBitmapSet.this.remove(this.lastReturned);
+            if (IntRoaringBitmapSet.this.containerCount != oldContainerCount)
+            {
+                // the container emptied and was removed, so the next one has moved into its slot
+                this.nextLow = 0;
+            }
+            this.count--;
+            this.canRemove = false;
+        }
+    }
+
+    private static final class ImmutableIntRoaringBitmapSet extends AbstractImmutableIntSet implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+        private static final ImmutableIntRoaringBitmapSet EMPTY = new ImmutableIntRoaringBitmapSet(new IntRoaringBitmapSet());
+
+        private final IntRoaringBitmapSet delegate;
+
+        private ImmutableIntRoaringBitmapSet(IntRoaringBitmapSet delegate)
+        {
+            this.delegate = delegate;
+        }
+
+        private static ImmutableIntSet of(IntRoaringBitmapSet set)
+        {
+            return set.isEmpty() ? EMPTY : new ImmutableIntRoaringBitmapSet(set);
+        }
+
+        private Object readResolve()
+        {
+            return this.delegate.isEmpty() ? EMPTY : this;
+        }
+
+        public int size()
+        {
+            return this.delegate.size();
+        }
+
+        public boolean contains(int value)
+        {
+            return this.delegate.contains(value);
+        }
+
+        public void forEach(IntProcedure procedure)
+        {
+            this.delegate.each(procedure);
+        }
+
+        public void each(IntProcedure procedure)
+        {
+            this.delegate.each(procedure);
+        }
+
+        public int[] toArray()
+        {
+            return this.delegate.toArray();
+        }
+
+        @Override
+        public int[] toSortedArray()
+        {
+            return this.delegate.toArray();
+        }
+
+        public int detectIfNone(IntPredicate predicate, int ifNone)
+        {
+            return this.delegate.detectIfNone(predicate, ifNone);
+        }
+
+        public int count(IntPredicate predicate)
+        {
+            return this.delegate.count(predicate);
+        }
+
+        public boolean anySatisfy(IntPredicate predicate)
+        {
+            return this.delegate.anySatisfy(predicate);
+        }
+
+        public boolean allSatisfy(IntPredicate predicate)
+        {
+            return this.delegate.allSatisfy(predicate);
+        }
+
+        public boolean noneSatisfy(IntPredicate predicate)
+        {
+            return this.delegate.noneSatisfy(predicate);
+        }
+
+        public <T> T injectInto(T injectedValue, ObjectIntToObjectFunction<? super T, ? extends T> function)
+        {
+            return this.delegate.injectInto(injectedValue, function);
+        }
+
+        public long sum()
+        {
+            return this.delegate.sum();
+        }
+
+        public int max()
+        {
+            return this.delegate.max();
+        }
+
+        public int min()
+        {
+            return this.delegate.min();
+        }
+
+        @Override
+        public int maxIfEmpty(int defaultValue)
+        {
+            return this.delegate.maxIfEmpty(defaultValue);
+        }
+
+        @Override
+        public int minIfEmpty(int defaultValue)
+        {
+            return this.delegate.minIfEmpty(defaultValue);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.delegate.hashCode();
+        }
+
+        public void appendString(Appendable appendable, String start, String separator, String end)
+        {
+            this.delegate.appendString(appendable, start, separator, end);
+        }
+
+        public IntIterator intIterator()
+        {
+            return new UnmodifiableIntIterator(this.delegate.intIterator());
+        }
+
+        public ImmutableIntSet select(IntPredicate predicate)
+        {
+            return ImmutableIntRoaringBitmapSet.of(this.delegate.select(predicate));
+        }
+
+        public ImmutableIntSet reject(IntPredicate predicate)
+        {
+            return ImmutableIntRoaringBitmapSet.of(this.delegate.reject(predicate));
+        }
+
+        public <V> ImmutableSet<V> collect(IntToObjectFunction<? extends V> function)
+        {
+            return this.delegate.<V>collect(function).toImmutable();
+        }
+
+        @Override
+        public ImmutableIntSet newWith(int element)
+        {
+            return ImmutableIntRoaringBitmapSet.of(this.delegate.copy().with(element));
+        }
+
+        @Override
+        public ImmutableIntSet newWithout(int element)
+        {
+            return ImmutableIntRoaringBitmapSet.of(this.delegate.copy().without(element));
+        }
+
+        @Override
+        public ImmutableIntSet newWithAll(IntIterable elements)
+        {
+            return ImmutableIntRoaringBitmapSet.of(this.delegate.union(elements));
+        }
+
+        @Override
+        public ImmutableIntSet newWithoutAll(IntIterable elements)
+        {
+            return ImmutableIntRoaringBitmapSet.of(this.delegate.difference(elements));
+        }
+    }
+}
@@ -25,7 +25,9 @@ import java.util.Comparator;
 import java.util.EmptyStackException;
 import java.util.Iterator;
 
+import com.gs.collections.api.IntIterable;
 import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.LongIterable;
 import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
@@ -60,7 +62,10 @@ import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.ListIterable;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableIntObjectMap;
+import com.gs.collections.api.map.primitive.MutableLongObjectMap;
 import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.MutableMultimap;
@@ -79,6 +84,9 @@ import com.gs.collections.api.stack.primitive.MutableFloatStack;
 import com.gs.collections.api.stack.primitive.MutableIntStack;
 import com.gs.collections.api.stack.primitive.MutableLongStack;
 import com.gs.collections.api.stack.primitive.MutableShortStack;
+import com.gs.collections.api.statistics.primitive.DoubleSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.IntSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.LongSummaryStatistics;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.block.factory.Predicates;
@@ -628,6 +636,41 @@ public class ArrayStack<T> implements MutableStack<T>, Externalizable
         return this.delegate.asReversed().sumOfDouble(doubleFunction);
     }
 
+    public IntSummaryStatistics summarizeInt(IntFunction<? super T> doubleFunction)
+    {
+        return this.delegate.asReversed().summarizeInt(doubleFunction);
+    }
+
+    public LongSummaryStatistics summarizeLong(LongFunction<? super T> doubleFunction)
+    {
+        return this.delegate.asReversed().summarizeLong(doubleFunction);
+    }
+
+    public DoubleSummaryStatistics summarizeDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return this.delegate.asReversed().summarizeDouble(doubleFunction);
+    }
+
+    public <R extends MutableIntCollection> R flatCollectInt(Function<? super T, ? extends IntIterable> function, R target)
+    {
+        return this.delegate.asReversed().flatCollectInt(function, target);
+    }
+
+    public <R extends MutableLongCollection> R flatCollectLong(Function<? super T, ? extends LongIterable> function, R target)
+    {
+        return this.delegate.asReversed().flatCollectLong(function, target);
+    }
+
+    public MutableIntObjectMap<MutableList<T>> groupByInt(IntFunction<? super T> function)
+    {
+        return this.delegate.asReversed().groupByInt(function);
+    }
+
+    public MutableLongObjectMap<MutableList<T>> groupByLong(LongFunction<? super T> function)
+    {
+        return this.delegate.asReversed().groupByLong(function);
+    }
+
     public <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function)
     {
         return this.delegate.asReversed().sumByInt(groupBy, function);
@@ -648,6 +691,21 @@ public class ArrayStack<T> implements MutableStack<T>, Externalizable
         return this.delegate.asReversed().sumByDouble(groupBy, function);
     }
 
+    public <V> ObjectIntMap<V> aggregateIntBy(Function<? super T, ? extends V> groupBy, int zeroValue, IntObjectToIntFunction<? super T> aggregator)
+    {
+        return this.delegate.asReversed().aggregateIntBy(groupBy, zeroValue, aggregator);
+    }
+
+    public <V> ObjectLongMap<V> aggregateLongBy(Function<? super T, ? extends V> groupBy, long zeroValue, LongObjectToLongFunction<? super T> aggregator)
+    {
+        return this.delegate.asReversed().aggregateLongBy(groupBy, zeroValue, aggregator);
+    }
+
+    public <V> ObjectDoubleMap<V> aggregateDoubleBy(Function<? super T, ? extends V> groupBy, double zeroValue, DoubleObjectToDoubleFunction<? super T> aggregator)
+    {
+        return this.delegate.asReversed().aggregateDoubleBy(groupBy, zeroValue, aggregator);
+    }
+
     public T max()
     {
         return this.delegate.asReversed().max();
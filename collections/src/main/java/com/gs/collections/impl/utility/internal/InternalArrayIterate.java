@@ -24,8 +24,11 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.RandomAccess;
 
+import com.gs.collections.api.IntIterable;
+import com.gs.collections.api.LongIterable;
 import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.block.HashingStrategy;
+import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
@@ -36,9 +39,13 @@ import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.collection.primitive.MutableIntCollection;
+import com.gs.collections.api.collection.primitive.MutableLongCollection;
 import com.gs.collections.api.list.ListIterable;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableIntObjectMap;
+import com.gs.collections.api.map.primitive.MutableLongObjectMap;
 import com.gs.collections.api.map.primitive.ObjectDoubleMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.multimap.MutableMultimap;
@@ -46,6 +53,7 @@ import com.gs.collections.api.ordered.OrderedIterable;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.tuple.Twin;
 import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.block.factory.Functions0;
 import com.gs.collections.impl.block.procedure.CountProcedure;
 import com.gs.collections.impl.block.procedure.FastListCollectIfProcedure;
 import com.gs.collections.impl.block.procedure.FastListCollectProcedure;
@@ -54,6 +62,8 @@ import com.gs.collections.impl.block.procedure.FastListSelectProcedure;
 import com.gs.collections.impl.block.procedure.MultimapPutProcedure;
 import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.primitive.IntObjectHashMap;
+import com.gs.collections.impl.map.mutable.primitive.LongObjectHashMap;
 import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
 import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import com.gs.collections.impl.partition.list.PartitionFastList;
@@ -262,6 +272,48 @@ public final class InternalArrayIterate
         return target;
     }
 
+    public static <T, R extends MutableIntCollection> R flatCollectInt(T[] array, int size, Function<? super T, ? extends IntIterable> function, R target)
+    {
+        for (int i = 0; i < size; i++)
+        {
+            target.addAll(function.valueOf(array[i]));
+        }
+        return target;
+    }
+
+    public static <T, R extends MutableLongCollection> R flatCollectLong(T[] array, int size, Function<? super T, ? extends LongIterable> function, R target)
+    {
+        for (int i = 0; i < size; i++)
+        {
+            target.addAll(function.valueOf(array[i]));
+        }
+        return target;
+    }
+
+    public static <T> MutableIntObjectMap<MutableList<T>> groupByInt(T[] array, int size, IntFunction<? super T> function)
+    {
+        MutableIntObjectMap<MutableList<T>> result = IntObjectHashMap.newMap();
+        Function0<MutableList<T>> newList = Functions0.newFastList();
+        for (int i = 0; i < size; i++)
+        {
+            T item = array[i];
+            result.getIfAbsentPut(function.intValueOf(item), newList).add(item);
+        }
+        return result;
+    }
+
+    public static <T> MutableLongObjectMap<MutableList<T>> groupByLong(T[] array, int size, LongFunction<? super T> function)
+    {
+        MutableLongObjectMap<MutableList<T>> result = LongObjectHashMap.newMap();
+        Function0<MutableList<T>> newList = Functions0.newFastList();
+        for (int i = 0; i < size; i++)
+        {
+            T item = array[i];
+            result.getIfAbsentPut(function.longValueOf(item), newList).add(item);
+        }
+        return result;
+    }
+
     public static <T, V, R extends MutableMultimap<V, T>> R groupByEach(
             T[] array,
             int size,
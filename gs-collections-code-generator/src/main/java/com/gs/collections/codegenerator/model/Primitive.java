@@ -77,6 +77,16 @@ public enum Primitive
         return this == SHORT;
     }
 
+    public boolean isIntPrimitive()
+    {
+        return this == INT;
+    }
+
+    public boolean isLongPrimitive()
+    {
+        return this == LONG;
+    }
+
     public boolean isFloatPrimitive()
     {
         return this == FLOAT;
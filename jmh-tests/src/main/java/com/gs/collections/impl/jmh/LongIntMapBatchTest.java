@@ -0,0 +1,170 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.map.mutable.primitive.LongIntHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares looking up and inserting blocks of keys one at a time against the batched
+ * {@link LongIntHashMap#getAll(long[], int[])}, {@link LongIntHashMap#containsAllKeys(long...)} and
+ * {@link LongIntHashMap#putAll(long[], int[])}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LongIntMapBatchTest extends AbstractJMHTestRunner
+{
+    @Param({"100", "10000", "100000"})
+    public int mapSizeDividedBy64;
+    @Param({"1024", "4096"})
+    public int blockSize;
+    private LongIntHashMap longIntMap;
+    private long[] randomLongsForMap;
+    private int[] randomIntegersForMap;
+    private long[] block;
+    private int[] target;
+
+    @Setup
+    public void setUp()
+    {
+        int size = this.mapSizeDividedBy64 * 64;
+        Random random = new Random(0x123456789ABCDL);
+        this.randomLongsForMap = random.longs().limit((long) size).toArray();
+        this.randomIntegersForMap = random.ints().limit((long) size).toArray();
+
+        this.longIntMap = new LongIntHashMap();
+        for (int i = 0; i < size; i++)
+        {
+            this.longIntMap.put(this.randomLongsForMap[i], this.randomIntegersForMap[i]);
+        }
+
+        this.shuffle(this.randomLongsForMap, random);
+        this.block = new long[this.blockSize];
+        this.target = new int[this.blockSize];
+    }
+
+    private static void swap(long[] arr, int i, int j)
+    {
+        long tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void get(Blackhole blackHole)
+    {
+        for (int start = 0; start + this.blockSize <= this.randomLongsForMap.length; start += this.blockSize)
+        {
+            System.arraycopy(this.randomLongsForMap, start, this.block, 0, this.blockSize);
+            for (int i = 0; i < this.blockSize; i++)
+            {
+                this.target[i] = this.longIntMap.get(this.block[i]);
+            }
+            blackHole.consume(this.target);
+        }
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void getAll(Blackhole blackHole)
+    {
+        for (int start = 0; start + this.blockSize <= this.randomLongsForMap.length; start += this.blockSize)
+        {
+            System.arraycopy(this.randomLongsForMap, start, this.block, 0, this.blockSize);
+            this.longIntMap.getAll(this.block, this.target);
+            blackHole.consume(this.target);
+        }
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void containsKey(Blackhole blackHole)
+    {
+        for (int start = 0; start + this.blockSize <= this.randomLongsForMap.length; start += this.blockSize)
+        {
+            System.arraycopy(this.randomLongsForMap, start, this.block, 0, this.blockSize);
+            boolean result = true;
+            for (int i = 0; i < this.blockSize && result; i++)
+            {
+                result = this.longIntMap.containsKey(this.block[i]);
+            }
+            blackHole.consume(result);
+        }
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void containsAllKeys(Blackhole blackHole)
+    {
+        for (int start = 0; start + this.blockSize <= this.randomLongsForMap.length; start += this.blockSize)
+        {
+            System.arraycopy(this.randomLongsForMap, start, this.block, 0, this.blockSize);
+            blackHole.consume(this.longIntMap.containsAllKeys(this.block));
+        }
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void put(Blackhole blackHole)
+    {
+        LongIntHashMap newMap = new LongIntHashMap();
+        for (int i = 0; i < this.randomLongsForMap.length; i++)
+        {
+            newMap.put(this.randomLongsForMap[i], this.randomIntegersForMap[i]);
+        }
+        blackHole.consume(newMap);
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void putAll(Blackhole blackHole)
+    {
+        LongIntHashMap newMap = new LongIntHashMap();
+        newMap.putAll(this.randomLongsForMap, this.randomIntegersForMap);
+        blackHole.consume(newMap);
+    }
+
+    public void shuffle(long[] longArray, Random rnd)
+    {
+        for (int i = longArray.length; i > 1; i--)
+        {
+            LongIntMapBatchTest.swap(longArray, i - 1, rnd.nextInt(i));
+        }
+    }
+}
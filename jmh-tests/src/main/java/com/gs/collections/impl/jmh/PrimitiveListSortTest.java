@@ -0,0 +1,146 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.list.mutable.primitive.DoubleArrayList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link IntArrayList#sortThis()} against {@link IntArrayList#sortThisRadix()} and
+ * {@link IntArrayList#sortThisParallel(ExecutorService)}, and the same for long and double lists, across list sizes
+ * so the sizes at which each variant starts to win can be read off the results. Every benchmark sorts a fresh copy
+ * of the same random data.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PrimitiveListSortTest extends AbstractJMHTestRunner
+{
+    @Param({"100", "1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(0x123456789ABCDL);
+        this.ints = random.ints().limit((long) this.size).toArray();
+        this.longs = random.longs().limit((long) this.size).toArray();
+        this.doubles = random.doubles(-1.0e9, 1.0e9).limit((long) this.size).toArray();
+        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public IntArrayList sort_int()
+    {
+        return IntArrayList.newListWith(this.ints.clone()).sortThis();
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public IntArrayList radix_sort_int()
+    {
+        return IntArrayList.newListWith(this.ints.clone()).sortThisRadix();
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public IntArrayList parallel_sort_int()
+    {
+        return IntArrayList.newListWith(this.ints.clone()).sortThisParallel(this.executorService);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public LongArrayList sort_long()
+    {
+        return LongArrayList.newListWith(this.longs.clone()).sortThis();
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public LongArrayList radix_sort_long()
+    {
+        return LongArrayList.newListWith(this.longs.clone()).sortThisRadix();
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public LongArrayList parallel_sort_long()
+    {
+        return LongArrayList.newListWith(this.longs.clone()).sortThisParallel(this.executorService);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public DoubleArrayList sort_double()
+    {
+        return DoubleArrayList.newListWith(this.doubles.clone()).sortThis();
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public DoubleArrayList radix_sort_double()
+    {
+        return DoubleArrayList.newListWith(this.doubles.clone()).sortThisRadix();
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public DoubleArrayList parallel_sort_double()
+    {
+        return DoubleArrayList.newListWith(this.doubles.clone()).sortThisParallel(this.executorService);
+    }
+}
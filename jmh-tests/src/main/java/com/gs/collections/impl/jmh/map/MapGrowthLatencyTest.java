@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.map;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.UnifiedMapWithIncrementalRehash;
+import org.apache.commons.lang.RandomStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Samples the time of single puts into a map that grows from its default size, so the percentiles in the report show
+ * the pauses taken when the map grows. Compare the p99.99 and p100 columns of the two benchmarks; the throughput of
+ * growing maps is measured by {@link MapGrowthTest}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapGrowthLatencyTest extends AbstractJMHTestRunner
+{
+    private static final int RANDOM_COUNT = 9;
+
+    @Param({"1000000", "5000000", "10000000"})
+    public int size;
+
+    private String[] elements;
+
+    private MutableMap<String, String> unifiedMap;
+
+    private MutableMap<String, String> incrementalMap;
+
+    private int unifiedIndex;
+
+    private int incrementalIndex;
+
+    @Setup
+    public void setUp()
+    {
+        this.elements = new String[this.size];
+
+        Random random = new Random(123456789012345L);
+        for (int i = 0; i < this.size; i++)
+        {
+            this.elements[i] = RandomStringUtils.random(RANDOM_COUNT, 0, 0, false, true, null, random);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpMaps()
+    {
+        this.unifiedMap = UnifiedMap.newMap();
+        this.incrementalMap = UnifiedMapWithIncrementalRehash.newMap();
+        this.unifiedIndex = 0;
+        this.incrementalIndex = 0;
+    }
+
+    @Benchmark
+    public String unifiedMapPut()
+    {
+        if (this.unifiedIndex == this.size)
+        {
+            this.unifiedMap = UnifiedMap.newMap();
+            this.unifiedIndex = 0;
+        }
+        return this.unifiedMap.put(this.elements[this.unifiedIndex++], "dummy");
+    }
+
+    @Benchmark
+    public String incrementalRehashPut()
+    {
+        if (this.incrementalIndex == this.size)
+        {
+            this.incrementalMap = UnifiedMapWithIncrementalRehash.newMap();
+            this.incrementalIndex = 0;
+        }
+        return this.incrementalMap.put(this.elements[this.incrementalIndex++], "dummy");
+    }
+}
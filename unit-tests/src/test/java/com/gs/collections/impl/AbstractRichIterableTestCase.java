@@ -47,7 +47,10 @@ import com.gs.collections.api.collection.primitive.MutableShortCollection;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableIntObjectMap;
+import com.gs.collections.api.map.primitive.MutableLongObjectMap;
 import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectIntMap;
 import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.Multimap;
@@ -55,6 +58,9 @@ import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.partition.PartitionIterable;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.primitive.DoubleSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.IntSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.LongSummaryStatistics;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.bag.mutable.HashBag;
 import com.gs.collections.impl.bag.mutable.primitive.BooleanHashBag;
@@ -936,6 +942,86 @@ public abstract class AbstractRichIterableTestCase
         Assertions.assertEquals(expected, actual);
     }
 
+    @Test
+    public void summarizeInt()
+    {
+        IntSummaryStatistics statistics = this.newWith(1, 2, 3).summarizeInt(Integer::intValue);
+        Assertions.assertEquals(3L, statistics.getCount());
+        Assertions.assertEquals(6L, statistics.getSum());
+        Assertions.assertEquals(1, statistics.getMin());
+        Assertions.assertEquals(3, statistics.getMax());
+        Assertions.assertEquals(2.0, statistics.getAverage(), 0.0);
+        Assertions.assertTrue(this.newWith().summarizeInt(Integer::intValue).isEmpty());
+    }
+
+    @Test
+    public void summarizeLong()
+    {
+        LongSummaryStatistics statistics = this.newWith(1, 2, 3).summarizeLong(Integer::longValue);
+        Assertions.assertEquals(3L, statistics.getCount());
+        Assertions.assertEquals(6L, statistics.getSum());
+        Assertions.assertEquals(1L, statistics.getMin());
+        Assertions.assertEquals(3L, statistics.getMax());
+        Assertions.assertEquals(2.0, statistics.getAverage(), 0.0);
+    }
+
+    @Test
+    public void summarizeDouble()
+    {
+        RichIterable<Integer> objects = this.newWith(1, 2, 3);
+        DoubleSummaryStatistics statistics = objects.summarizeDouble(Integer::doubleValue);
+        Assertions.assertEquals(3L, statistics.getCount());
+        Assertions.assertEquals(objects.sumOfDouble(Integer::doubleValue), statistics.getSum(), 0.0);
+        Assertions.assertEquals(1.0, statistics.getMin(), 0.0);
+        Assertions.assertEquals(3.0, statistics.getMax(), 0.0);
+        Assertions.assertEquals(2.0, statistics.getAverage(), 0.0);
+    }
+
+    @Test
+    public void summarizeDoubleConsistentRounding()
+    {
+        MutableList<Integer> list = Interval.oneTo(99_999).toList().shuffleThis();
+
+        Assertions.assertEquals(
+                33333.0,
+                this.newWith(list.toArray(new Integer[]{})).summarizeDouble(i -> 1.0d / 3.0d).getSum(),
+                0.0);
+    }
+
+    @Test
+    public void flatCollectInt()
+    {
+        IntArrayList result = this.newWith(1, 2, 3).flatCollectInt(each -> IntArrayList.newListWith(each, each * 10), new IntArrayList());
+        Assertions.assertEquals(IntHashBag.newBagWith(1, 10, 2, 20, 3, 30), result.toBag());
+        Assertions.assertEquals(IntHashBag.newBagWith(), this.newWith().flatCollectInt(each -> IntArrayList.newListWith(each), new IntHashBag()));
+    }
+
+    @Test
+    public void flatCollectLong()
+    {
+        LongHashBag result = this.newWith(1, 2, 3).flatCollectLong(each -> LongArrayList.newListWith(each.longValue(), each * 10L), new LongHashBag());
+        Assertions.assertEquals(LongHashBag.newBagWith(1L, 10L, 2L, 20L, 3L, 30L), result);
+    }
+
+    @Test
+    public void groupByInt()
+    {
+        MutableIntObjectMap<MutableList<Integer>> groups = this.newWith(1, 2, 3, 4).groupByInt(each -> each % 2);
+        Assertions.assertEquals(2, groups.size());
+        Assertions.assertEquals(HashBag.newBagWith(2, 4), groups.get(0).toBag());
+        Assertions.assertEquals(HashBag.newBagWith(1, 3), groups.get(1).toBag());
+        Assertions.assertTrue(this.newWith().groupByInt(each -> each % 2).isEmpty());
+    }
+
+    @Test
+    public void groupByLong()
+    {
+        MutableLongObjectMap<MutableList<Integer>> groups = this.newWith(1, 2, 3, 4).groupByLong(each -> each / 3L);
+        Assertions.assertEquals(2, groups.size());
+        Assertions.assertEquals(HashBag.newBagWith(1, 2), groups.get(0L).toBag());
+        Assertions.assertEquals(HashBag.newBagWith(3, 4), groups.get(1L).toBag());
+    }
+
     @Test
     public void sumByInt()
     {
@@ -998,6 +1084,37 @@ public abstract class AbstractRichIterableTestCase
         Assertions.assertEquals(30.0d, result.get(0), 0.0);
     }
 
+    @Test
+    public void aggregateIntBy()
+    {
+        RichIterable<Integer> values = this.newWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        ObjectIntMap<Integer> max = values.aggregateIntBy(i -> i % 2, 0, (result, each) -> Math.max(result, each));
+        Assertions.assertEquals(9, max.get(1));
+        Assertions.assertEquals(10, max.get(0));
+        ObjectIntMap<Integer> counts = values.aggregateIntBy(i -> i % 2, 0, (count, each) -> count + 1);
+        Assertions.assertEquals(5, counts.get(1));
+        Assertions.assertEquals(5, counts.get(0));
+        Assertions.assertTrue(this.<Integer>newWith().aggregateIntBy(i -> i % 2, 0, (count, each) -> count + 1).isEmpty());
+    }
+
+    @Test
+    public void aggregateLongBy()
+    {
+        RichIterable<Integer> values = this.newWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        ObjectLongMap<Integer> result = values.aggregateLongBy(i -> i % 2, 0L, (sum, each) -> sum + each);
+        Assertions.assertEquals(25L, result.get(1));
+        Assertions.assertEquals(30L, result.get(0));
+    }
+
+    @Test
+    public void aggregateDoubleBy()
+    {
+        RichIterable<Integer> values = this.newWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        ObjectDoubleMap<Integer> result = values.aggregateDoubleBy(i -> i % 2, Double.MAX_VALUE, (min, each) -> Math.min(min, each));
+        Assertions.assertEquals(1.0d, result.get(1), 0.0);
+        Assertions.assertEquals(2.0d, result.get(0), 0.0);
+    }
+
     @Test
     public void sumByDoubleConsistentRounding()
     {
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import com.gs.collections.impl.list.mutable.primitive.DoubleArrayList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit test for {@link QuantileSketch}.
+ */
+public class QuantileSketchTest
+{
+    private static final double ACCURACY = 0.01;
+
+    @Test
+    public void quantilesAreWithinRelativeAccuracy()
+    {
+        Random random = new Random(0x123456789ABCDL);
+        double[] values = new double[100_000];
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+        for (int i = 0; i < values.length; i++)
+        {
+            values[i] = Math.exp(random.nextGaussian() * 3.0) * (random.nextInt(10) == 0 ? -1.0 : 1.0);
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+        Assertions.assertEquals(values.length, sketch.getCount());
+        for (double quantile : new double[]{0.01, 0.05, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999})
+        {
+            double expected = values[(int) (quantile * (values.length - 1))];
+            Assertions.assertEquals(expected, sketch.quantile(quantile), Math.abs(expected) * ACCURACY, String.valueOf(quantile));
+        }
+        Assertions.assertEquals(values[0], sketch.quantile(0.0));
+        Assertions.assertEquals(values[values.length - 1], sketch.quantile(1.0));
+    }
+
+    @Test
+    public void zeroesAndNegatives()
+    {
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+        IntArrayList.newListWith(-100, -10, 0, 0, 0, 10, 100).forEach(sketch);
+        Assertions.assertArrayEquals(new double[]{-100.0, 0.0, 0.0, 100.0}, sketch.quantiles(0.0, 0.4, 0.5, 1.0), 0.0);
+        Assertions.assertEquals(-10.0, sketch.quantile(0.2), 10.0 * ACCURACY);
+        Assertions.assertEquals(10.0, sketch.quantile(0.9), 10.0 * ACCURACY);
+    }
+
+    @Test
+    public void merge()
+    {
+        QuantileSketch low = new QuantileSketch(ACCURACY);
+        QuantileSketch high = new QuantileSketch(ACCURACY);
+        QuantileSketch all = new QuantileSketch(ACCURACY);
+        for (int i = 1; i <= 1000; i++)
+        {
+            (i <= 500 ? low : high).value(i);
+            all.value(i);
+        }
+        Assertions.assertSame(low, low.merge(high).merge(new QuantileSketch(ACCURACY)));
+        Assertions.assertEquals(all.getCount(), low.getCount());
+        Assertions.assertArrayEquals(all.quantiles(0.0, 0.1, 0.5, 0.99, 1.0), low.quantiles(0.0, 0.1, 0.5, 0.99, 1.0), 0.0);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> low.merge(new QuantileSketch(0.02)));
+    }
+
+    @Test
+    public void lazyIterable()
+    {
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+        DoubleArrayList.newListWith(1.0, 2.0, 3.0, 4.0, 5.0).asLazy().select(each -> each > 1.0).forEach(sketch);
+        Assertions.assertEquals(4L, sketch.getCount());
+        Assertions.assertEquals(3.0, sketch.quantile(0.5), 3.0 * ACCURACY);
+    }
+
+    @Test
+    public void invalidArguments()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(0.0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(1.0));
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+        Assertions.assertTrue(sketch.isEmpty());
+        Assertions.assertThrows(ArithmeticException.class, () -> sketch.quantile(0.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sketch.add(Double.NaN));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sketch.add(Double.POSITIVE_INFINITY));
+        sketch.add(1.0);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sketch.quantile(1.5));
+    }
+
+    @Test
+    public void serialization()
+    {
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+        IntArrayList.newListWith(1, 2, 3).forEach(sketch);
+        QuantileSketch deserialized = SerializeTestHelper.serializeDeserialize(sketch);
+        Assertions.assertEquals(3L, deserialized.getCount());
+        Assertions.assertEquals(sketch.quantile(0.5), deserialized.quantile(0.5), 0.0);
+    }
+}
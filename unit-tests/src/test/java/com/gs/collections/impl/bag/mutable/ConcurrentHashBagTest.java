@@ -0,0 +1,174 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bag.mutable;
+
+import java.util.Iterator;
+
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.tuple.primitive.ObjectIntPair;
+import com.gs.collections.impl.block.factory.primitive.IntPredicates;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.parallel.ParallelIterate;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit test for {@link ConcurrentHashBag}.
+ */
+public class ConcurrentHashBagTest extends MutableBagTestCase
+{
+    @Override
+    protected <T> ConcurrentHashBag<T> newWith(T... littleElements)
+    {
+        return ConcurrentHashBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected <T> MutableBag<T> newWithOccurrences(ObjectIntPair<T>... elementsWithOccurrences)
+    {
+        MutableBag<T> bag = this.newWith();
+        for (int i = 0; i < elementsWithOccurrences.length; i++)
+        {
+            ObjectIntPair<T> itemToAdd = elementsWithOccurrences[i];
+            bag.addOccurrences(itemToAdd.getOne(), itemToAdd.getTwo());
+        }
+        return bag;
+    }
+
+    @Override
+    @Test
+    public void newEmpty()
+    {
+        super.newEmpty();
+        Verify.assertInstanceOf(ConcurrentHashBag.class, ConcurrentHashBag.newBag().newEmpty());
+    }
+
+    @Test
+    public void newBagFromIterableAndBag()
+    {
+        assertBagsEqual(HashBag.newBagWith(1, 2, 2, 3, 3, 3), ConcurrentHashBag.newBag(Interval.oneTo(3).flatCollect(each -> Interval.fromTo(1, each).collect(ignored -> each))));
+        Assertions.assertEquals(HashBag.newBagWith(1, 2, 2, null), ConcurrentHashBag.newBag(HashBag.newBagWith(1, 2, 2, null)));
+    }
+
+    @Test
+    public void nullItems()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBagWith(null, null, 1);
+        Assertions.assertEquals(2, bag.occurrencesOf(null));
+        Assertions.assertTrue(bag.contains(null));
+        Assertions.assertEquals(HashBag.newBagWith(null, null, 1), bag);
+        Assertions.assertTrue(bag.remove(null));
+        Assertions.assertTrue(bag.remove(null));
+        Assertions.assertFalse(bag.remove(null));
+        Assertions.assertFalse(bag.contains(null));
+        Verify.assertSize(1, bag);
+    }
+
+    @Test
+    public void removeAndReAdd()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("a", "a", "b");
+        Assertions.assertTrue(bag.removeOccurrences("a", 5));
+        Assertions.assertEquals(0, bag.occurrencesOf("a"));
+        Assertions.assertEquals(1, bag.sizeDistinct());
+        bag.addOccurrences("a", 3);
+        Assertions.assertEquals(3, bag.occurrencesOf("a"));
+        Assertions.assertTrue(bag.setOccurrences("a", 0));
+        Assertions.assertFalse(bag.setOccurrences("a", 0));
+        Assertions.assertTrue(bag.setOccurrences("a", 2));
+        Assertions.assertEquals(HashBag.newBagWith("a", "a", "b"), bag);
+    }
+
+    @Test
+    public void iteratorRemove_removesOneOccurrence()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("a", "a", "a", "b");
+        Iterator<String> iterator = bag.iterator();
+        while (iterator.hasNext())
+        {
+            if ("a".equals(iterator.next()))
+            {
+                iterator.remove();
+            }
+        }
+        Assertions.assertEquals(HashBag.newBagWith("b"), bag);
+    }
+
+    @Test
+    public void selectByOccurrencesAndTopOccurrences()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("a", "a", "a", "b", "b", "c");
+        Assertions.assertEquals(HashBag.newBagWith("a", "a", "a", "b", "b"), bag.selectByOccurrences(IntPredicates.greaterThan(1)));
+        Assertions.assertEquals(
+                FastList.newListWith(PrimitiveTuples.pair("a", 3), PrimitiveTuples.pair("b", 2)),
+                bag.topOccurrences(2));
+    }
+
+    @Test
+    public void serialization()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBagWith(1, 1, 2, null);
+        ConcurrentHashBag<Integer> deserialized = SerializeTestHelper.serializeDeserialize(bag);
+        Assertions.assertEquals(bag, deserialized);
+        deserialized.add(3);
+        Assertions.assertEquals(HashBag.newBagWith(1, 1, 2, 3, null), deserialized);
+    }
+
+    @Test
+    public void concurrentAdd()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ParallelIterate.forEach(Interval.oneTo(100_000), each -> bag.add(each % 10), 100);
+        Verify.assertSize(100_000, bag);
+        Assertions.assertEquals(10, bag.sizeDistinct());
+        bag.forEachWithOccurrences((each, occurrences) -> Assertions.assertEquals(10_000, occurrences));
+    }
+
+    @Test
+    public void concurrentAddAndRemove()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ParallelIterate.forEach(Interval.oneTo(100_000), each -> {
+            bag.addOccurrences(each % 4, 2);
+            Assertions.assertTrue(bag.remove(each % 4));
+            Assertions.assertTrue(bag.remove(each % 4));
+        }, 10);
+        Verify.assertEmpty(bag);
+        Assertions.assertEquals(0, bag.sizeDistinct());
+
+        ParallelIterate.forEach(Interval.oneTo(100_000), each -> {
+            bag.add(each % 4);
+            bag.remove(each % 4);
+            bag.add(each % 4);
+        }, 10);
+        Verify.assertSize(100_000, bag);
+        Assertions.assertEquals(25_000, bag.occurrencesOf(0));
+    }
+
+    @Test
+    public void concurrentCollect()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBag();
+        Interval interval = Interval.oneTo(50000);
+        ParallelIterate.collect(interval, String::valueOf, bag, true);
+        Assertions.assertEquals(interval.collect(String::valueOf).toBag(), bag);
+    }
+}
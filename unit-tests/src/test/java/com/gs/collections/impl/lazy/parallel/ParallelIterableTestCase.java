@@ -36,8 +36,13 @@ import com.gs.collections.api.collection.MutableCollection;
 import com.gs.collections.api.list.ImmutableList;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.list.ParallelListIterable;
+import com.gs.collections.api.map.primitive.MutableIntObjectMap;
+import com.gs.collections.api.map.primitive.MutableLongObjectMap;
 import com.gs.collections.api.set.ParallelSetIterable;
 import com.gs.collections.api.set.sorted.ParallelSortedSetIterable;
+import com.gs.collections.api.statistics.primitive.DoubleSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.IntSummaryStatistics;
+import com.gs.collections.api.statistics.primitive.LongSummaryStatistics;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.bag.mutable.HashBag;
 import com.gs.collections.impl.bag.mutable.primitive.CharHashBag;
@@ -917,6 +922,92 @@ public abstract class ParallelIterableTestCase
                 0.0);
     }
 
+    @Test
+    public void summarizeInt()
+    {
+        IntSummaryStatistics statistics = this.classUnderTest().summarizeInt(Integer::intValue);
+        Assertions.assertEquals(this.getExpected().size(), statistics.getCount());
+        Assertions.assertEquals(this.getExpected().sumOfInt(Integer::intValue), statistics.getSum());
+        Assertions.assertEquals(this.getExpected().min().intValue(), statistics.getMin());
+        Assertions.assertEquals(this.getExpected().max().intValue(), statistics.getMax());
+    }
+
+    @Test
+    public void summarizeLong()
+    {
+        LongSummaryStatistics statistics = this.classUnderTest().summarizeLong(Integer::longValue);
+        Assertions.assertEquals(this.getExpected().size(), statistics.getCount());
+        Assertions.assertEquals(this.getExpected().sumOfLong(Integer::longValue), statistics.getSum());
+        Assertions.assertEquals(this.getExpected().min().longValue(), statistics.getMin());
+        Assertions.assertEquals(this.getExpected().max().longValue(), statistics.getMax());
+    }
+
+    @Test
+    public void summarizeDouble()
+    {
+        DoubleSummaryStatistics statistics = this.classUnderTest().summarizeDouble(Integer::doubleValue);
+        Assertions.assertEquals(this.getExpected().size(), statistics.getCount());
+        Assertions.assertEquals(this.getExpected().sumOfDouble(Integer::doubleValue), statistics.getSum(), 0.0);
+        Assertions.assertEquals(this.getExpected().min().doubleValue(), statistics.getMin(), 0.0);
+        Assertions.assertEquals(this.getExpected().max().doubleValue(), statistics.getMax(), 0.0);
+        Assertions.assertEquals(this.getExpected().sumOfDouble(Integer::doubleValue) / this.getExpected().size(), statistics.getAverage(), 1.0e-9);
+    }
+
+    @Test
+    public void groupByInt()
+    {
+        MutableIntObjectMap<MutableList<Integer>> groups = this.classUnderTest().groupByInt(each -> each % 2);
+        MutableIntObjectMap<MutableList<Integer>> expected = this.getExpected().groupByInt(each -> each % 2);
+        Assertions.assertEquals(expected.keySet(), groups.keySet());
+        expected.forEachKeyValue((key, group) ->
+        {
+            if (this.isOrdered())
+            {
+                Assertions.assertEquals(group, groups.get(key));
+            }
+            else
+            {
+                Assertions.assertEquals(group.toBag(), groups.get(key).toBag());
+            }
+        });
+    }
+
+    @Test
+    public void groupByLong()
+    {
+        MutableLongObjectMap<MutableList<Integer>> groups = this.classUnderTest().groupByLong(Integer::longValue);
+        MutableLongObjectMap<MutableList<Integer>> expected = this.getExpected().groupByLong(Integer::longValue);
+        Assertions.assertEquals(expected.keySet(), groups.keySet());
+        expected.forEachKeyValue((key, group) -> Assertions.assertEquals(group.toBag(), groups.get(key).toBag()));
+    }
+
+    @Test
+    public void aggregateIntBy()
+    {
+        Assertions.assertEquals(
+                this.getExpected().aggregateIntBy(each -> each % 3, 0, (count, each) -> count + 1),
+                this.classUnderTest().aggregateIntBy(each -> each % 3, 0, (count, each) -> count + 1, (count1, count2) -> count1 + count2));
+        Assertions.assertEquals(
+                this.getExpected().aggregateIntBy(each -> each % 2, Integer.MIN_VALUE, (max, each) -> Math.max(max, each)),
+                this.classUnderTest().aggregateIntBy(each -> each % 2, Integer.MIN_VALUE, (max, each) -> Math.max(max, each), Math::max));
+    }
+
+    @Test
+    public void aggregateLongBy()
+    {
+        Assertions.assertEquals(
+                this.getExpected().aggregateLongBy(each -> each % 2, 0L, (sum, each) -> sum + each),
+                this.classUnderTest().aggregateLongBy(each -> each % 2, 0L, (sum, each) -> sum + each, (sum1, sum2) -> sum1 + sum2));
+    }
+
+    @Test
+    public void aggregateDoubleBy()
+    {
+        Assertions.assertEquals(
+                this.getExpected().aggregateDoubleBy(each -> each % 2, Double.MAX_VALUE, (min, each) -> Math.min(min, each)),
+                this.classUnderTest().aggregateDoubleBy(each -> each % 2, Double.MAX_VALUE, (min, each) -> Math.min(min, each), Math::min));
+    }
+
     @Test
     public void sumOfDoubleConsistentRounding()
     {
@@ -17,8 +17,11 @@
 package com.gs.collections.impl.list.primitive;
 
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.gs.collections.api.LazyIntIterable;
+import com.gs.collections.api.ParallelIntIterable;
 import com.gs.collections.api.iterator.IntIterator;
 import com.gs.collections.impl.bag.mutable.primitive.IntHashBag;
 import com.gs.collections.impl.block.factory.primitive.IntPredicates;
@@ -395,6 +398,25 @@ public class IntIntervalTest
         Assertions.assertEquals(3.0, IntInterval.oneTo(5).median(), 0.0);
     }
 
+    @Test
+    public void percentileAndQuantiles()
+    {
+        Assertions.assertEquals(1.0, IntInterval.fromToBy(10, -10, -3).median(), 0.0);
+        Assertions.assertEquals(-8.0, IntInterval.fromToBy(10, -10, -3).percentile(0.0), 0.0);
+        Assertions.assertEquals(1.4, IntInterval.oneTo(5).percentile(10.0), 1.0e-9);
+        Assertions.assertEquals(5.0, IntInterval.oneTo(5).percentile(100.0), 0.0);
+        Assertions.assertArrayEquals(
+                new double[]{1.0, 50.5, 100.0, 25.75},
+                IntInterval.fromToBy(1, 100, 3).quantiles(0.0, 0.5, 1.0, 0.25),
+                1.0e-9);
+        Assertions.assertArrayEquals(
+                IntArrayList.newList(IntInterval.fromToBy(100, -50, -7)).quantiles(0.1, 0.33, 0.9),
+                IntInterval.fromToBy(100, -50, -7).quantiles(0.1, 0.33, 0.9),
+                1.0e-9);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> IntInterval.oneTo(5).percentile(-1.0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> IntInterval.oneTo(5).quantiles(Double.NaN));
+    }
+
     @Test
     public void toArray()
     {
@@ -736,4 +758,37 @@ public class IntIntervalTest
         Assertions.assertTrue(IntInterval.fromTo(1, 3).containsAll(1, 2, 3));
         Assertions.assertFalse(IntInterval.fromTo(1, 3).containsAll(1, 2, 4));
     }
+
+    @Test
+    public void asParallel()
+    {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try
+        {
+            IntInterval interval = IntInterval.fromTo(-10, 1000).by(3);
+            ParallelIntIterable parallel = interval.asParallel(executorService, 7);
+            Assertions.assertEquals(interval.sum(), parallel.sum());
+            Assertions.assertEquals(interval.min(), parallel.min());
+            Assertions.assertEquals(interval.max(), parallel.max());
+            Assertions.assertEquals(interval.toList(), parallel.toList());
+            Assertions.assertEquals(interval.select(IntPredicates.greaterThan(500)).toList(), parallel.select(IntPredicates.greaterThan(500)).toList());
+            Assertions.assertEquals(interval.count(IntPredicates.lessThan(0)), parallel.count(IntPredicates.lessThan(0)));
+            Assertions.assertTrue(parallel.anySatisfy(IntPredicates.equal(998)));
+            Assertions.assertFalse(parallel.anySatisfy(IntPredicates.equal(999)));
+            Assertions.assertTrue(parallel.allSatisfy(IntPredicates.lessThan(1000)));
+            Assertions.assertEquals(500, parallel.detectIfNone(IntPredicates.equal(500), 0));
+            Assertions.assertEquals(interval.collect(String::valueOf).toSet(), parallel.collect(String::valueOf).toSet());
+
+            IntInterval backwards = IntInterval.fromTo(100, -100).by(-7);
+            Assertions.assertEquals(backwards.toList(), backwards.asParallel(executorService, 2).toList());
+            Assertions.assertEquals(backwards.sum(), backwards.asParallel(executorService, Integer.MAX_VALUE).sum());
+
+            assertThrows(NullPointerException.class, () -> interval.asParallel(null, 7));
+            assertThrows(IllegalArgumentException.class, () -> interval.asParallel(executorService, 0));
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
 }
@@ -52,6 +52,7 @@ import com.gs.collections.api.multimap.set.MutableSetMultimap;
 import com.gs.collections.api.partition.PartitionIterable;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.statistics.primitive.IntSummaryStatistics;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.IntegerWithCast;
 import com.gs.collections.impl.bag.mutable.HashBag;
@@ -1145,6 +1146,19 @@ public abstract class MapIterableTestCase
         Assertions.assertEquals(10.0d, actual, 0.01);
     }
 
+    @Test
+    public void summarizeInt()
+    {
+        MapIterable<String, Integer> map = this.newMapWithKeysValues("1", 1, "2", 2, "3", 3, "4", 4);
+
+        IntSummaryStatistics statistics = map.summarizeInt(Integer::intValue);
+        Assertions.assertEquals(4L, statistics.getCount());
+        Assertions.assertEquals(10L, statistics.getSum());
+        Assertions.assertEquals(1, statistics.getMin());
+        Assertions.assertEquals(4, statistics.getMax());
+        Assertions.assertEquals(2.5, statistics.getAverage(), 0.0);
+    }
+
     @Test
     public void sumByInt()
     {
@@ -17,6 +17,7 @@
 package com.gs.collections.impl.map.mutable;
 
 import java.util.Collections;
+import java.util.concurrent.Future;
 
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.block.function.Function;
@@ -281,6 +282,75 @@ public class ConcurrentHashMapTest extends ConcurrentHashMapTestCase
         Verify.assertEqualsAndHashCode(SMALL_BAG_MUTABLE_MAP, actual);
     }
 
+    @Test
+    public void parallelForEachKeyValueWithTaskCount()
+    {
+        ConcurrentHashMap<Integer, Integer> source =
+                ConcurrentHashMap.newMap(Interval.oneTo(100).toMap(Functions.getIntegerPassThru(), Functions.getIntegerPassThru()));
+        MutableBag<Integer> actual = HashBag.<Integer>newBag().asSynchronized();
+        source.parallelForEachKeyValue((key, value) -> actual.add(key + value), 5, this.executor);
+        Assertions.assertEquals(Interval.oneTo(100).collect(each -> each * 2).toBag(), actual);
+    }
+
+    @Test
+    public void parallelForEachKeyValueDuringResize() throws Exception
+    {
+        ConcurrentHashMap<Integer, Integer> source =
+                ConcurrentHashMap.newMap(Interval.oneTo(1000).toMap(Functions.getIntegerPassThru(), Functions.getIntegerPassThru()));
+        MutableBag<Integer> visited = HashBag.<Integer>newBag().asSynchronized();
+        Future<?> writer = this.executor.submit(() -> {
+            for (int i = 1001; i <= 100000; i++)
+            {
+                source.put(i, i);
+            }
+        });
+        source.parallelForEachKeyValue((key, value) -> {
+            if (key <= 1000)
+            {
+                visited.add(key);
+            }
+        }, 8, this.executor);
+        writer.get();
+        Assertions.assertEquals(Interval.oneTo(1000).toBag(), visited);
+        Verify.assertSize(100000, source);
+    }
+
+    @Test
+    public void parallelReduce()
+    {
+        ConcurrentHashMap<Integer, Integer> source =
+                ConcurrentHashMap.newMap(Interval.oneTo(100).toMap(Functions.getIntegerPassThru(), Functions.getIntegerPassThru()));
+        Long sum = source.parallelReduce(() -> 0L, (result, key, value) -> result + key + value, Long::sum, 5, this.executor);
+        Assertions.assertEquals(Long.valueOf(10100L), sum);
+    }
+
+    @Test
+    public void parallelSelectValues()
+    {
+        ConcurrentHashMap<Integer, Integer> source =
+                ConcurrentHashMap.newMap(Interval.oneTo(100).toMap(Functions.getIntegerPassThru(), Functions.getIntegerPassThru()));
+        UnifiedSet<Integer> actual = source.parallelSelectValues((key, value) -> value % 2 == 0, UnifiedSet.<Integer>newSet(), 5, this.executor);
+        Assertions.assertEquals(Interval.evensFromTo(1, 100).toSet(), actual);
+    }
+
+    @Test
+    public void parallelCollect()
+    {
+        ConcurrentHashMap<Integer, Integer> source =
+                ConcurrentHashMap.newMap(Interval.oneTo(100).toMap(Functions.getIntegerPassThru(), Functions.getIntegerPassThru()));
+        MutableBag<String> actual = source.parallelCollect((key, value) -> key + ":" + value, HashBag.<String>newBag(), 5, this.executor);
+        Assertions.assertEquals(Interval.oneTo(100).collect(each -> each + ":" + each).toBag(), actual);
+    }
+
+    @Test
+    public void parallelAggregateBy()
+    {
+        ConcurrentHashMap<Integer, Integer> source =
+                ConcurrentHashMap.newMap(Interval.oneTo(100).toMap(Functions.getIntegerPassThru(), Functions.getIntegerPassThru()));
+        MutableMap<Integer, Integer> actual = source.parallelAggregateBy(each -> each % 10, () -> 0, (sum, each) -> sum + each, 5, this.executor);
+        Assertions.assertEquals(Interval.oneTo(100).aggregateBy(each -> each % 10, () -> 0, (sum, each) -> sum + each), actual);
+    }
+
     @Test
     public void putAllInParallelSmallMap()
     {
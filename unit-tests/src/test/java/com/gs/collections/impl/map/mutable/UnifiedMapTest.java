@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.Set;
 
 import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.map.MapCursor;
 import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.factory.Predicates2;
@@ -713,6 +714,31 @@ public class UnifiedMapTest extends UnifiedMapTestCase
         Assertions.assertFalse(collisions.allSatisfyWith(String::equals, "one"));
     }
 
+    @Test
+    public void cursor()
+    {
+        UnifiedMap<Integer, Integer> map = UnifiedMap.newMap();
+        MORE_COLLISIONS.forEach(Procedures.cast(each -> map.put(each, each)));
+        map.put(null, 0);
+        map.put(1000, 1000);
+
+        MapCursor<Integer, Integer> cursor = map.cursor();
+        Verify.assertThrows(IllegalStateException.class, cursor::key);
+        MutableMap<Integer, Integer> seen = UnifiedMap.newMap();
+        while (cursor.advance())
+        {
+            Assertions.assertEquals(map.get(cursor.key()), cursor.value());
+            seen.put(cursor.key(), cursor.value());
+            cursor.setValue(-1);
+        }
+        Assertions.assertFalse(cursor.advance());
+        Verify.assertThrows(IllegalStateException.class, cursor::value);
+        Verify.assertSize(MORE_COLLISIONS.size() + 2, seen);
+        Verify.assertContainsKey(null, seen);
+        Assertions.assertTrue(map.allSatisfy(value -> value == -1));
+        Assertions.assertFalse(UnifiedMap.newMap().cursor().advance());
+    }
+
     @Override
     protected UnifiedMap<Integer, Integer> mapWithCollisionsOfSize(int size)
     {
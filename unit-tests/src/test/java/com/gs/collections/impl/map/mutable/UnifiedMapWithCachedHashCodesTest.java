@@ -0,0 +1,197 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable;
+
+import java.util.Iterator;
+
+import com.gs.collections.api.map.MapCursor;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit test for {@link UnifiedMapWithCachedHashCodes}.
+ */
+public class UnifiedMapWithCachedHashCodesTest extends MutableMapTestCase
+{
+    @Override
+    public <K, V> MutableMap<K, V> newMap()
+    {
+        return UnifiedMapWithCachedHashCodes.newMap();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return UnifiedMapWithCachedHashCodes.newWithKeysValues(key, value);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return UnifiedMapWithCachedHashCodes.newWithKeysValues(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return UnifiedMapWithCachedHashCodes.newWithKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return UnifiedMapWithCachedHashCodes.<K, V>newWithKeysValues(key1, value1, key2, value2, key3, value3)
+                .withKeyValue(key4, value4);
+    }
+
+    @Test
+    public void constructorArguments()
+    {
+        Verify.assertThrows(IllegalArgumentException.class, () -> UnifiedMapWithCachedHashCodes.newMap(-1));
+        Verify.assertThrows(IllegalArgumentException.class, () -> UnifiedMapWithCachedHashCodes.newMap(8, 0.0f));
+        Verify.assertThrows(IllegalArgumentException.class, () -> UnifiedMapWithCachedHashCodes.newMap(8, 1.5f));
+    }
+
+    @Test
+    public void growingDoesNotCallHashCode()
+    {
+        UnifiedMapWithCachedHashCodes<CountingKey, Integer> map = UnifiedMapWithCachedHashCodes.newMap(1);
+        for (int i = 0; i < 1000; i++)
+        {
+            map.put(new CountingKey(i), i);
+        }
+        Verify.assertSize(1000, map);
+        map.forEachKey(key -> Assertions.assertEquals(1, key.hashCodeCalls));
+        for (int i = 0; i < 1000; i++)
+        {
+            Assertions.assertEquals(Integer.valueOf(i), map.get(new CountingKey(i)));
+        }
+    }
+
+    @Test
+    public void copyingReusesStoredHashCodes()
+    {
+        UnifiedMapWithCachedHashCodes<CountingKey, Integer> map = UnifiedMapWithCachedHashCodes.newMap();
+        for (int i = 0; i < 100; i++)
+        {
+            map.put(new CountingKey(i), i);
+        }
+        UnifiedMapWithCachedHashCodes<CountingKey, Integer> copy = map.clone();
+        copy.forEachKey(key -> Assertions.assertEquals(1, key.hashCodeCalls));
+        Assertions.assertEquals(map, copy);
+    }
+
+    @Test
+    public void collidingKeys()
+    {
+        UnifiedMapWithCachedHashCodes<CountingKey, String> map = UnifiedMapWithCachedHashCodes.newMap();
+        for (int i = 0; i < 64; i++)
+        {
+            map.put(new CountingKey(i, 42), String.valueOf(i));
+        }
+        Verify.assertSize(64, map);
+        for (int i = 0; i < 64; i += 2)
+        {
+            Assertions.assertEquals(String.valueOf(i), map.remove(new CountingKey(i, 42)));
+        }
+        Verify.assertSize(32, map);
+        for (int i = 0; i < 64; i++)
+        {
+            Assertions.assertEquals(i % 2 == 0 ? null : String.valueOf(i), map.get(new CountingKey(i, 42)));
+        }
+    }
+
+    @Test
+    public void iteratorRemoveVisitsEveryEntry()
+    {
+        UnifiedMapWithCachedHashCodes<Integer, Integer> map = UnifiedMapWithCachedHashCodes.newMap();
+        for (int i = 0; i < 100; i++)
+        {
+            map.put(i, i);
+        }
+        int visited = 0;
+        Iterator<Integer> iterator = map.keySet().iterator();
+        while (iterator.hasNext())
+        {
+            Integer key = iterator.next();
+            visited++;
+            if (key % 3 != 0)
+            {
+                iterator.remove();
+            }
+        }
+        Assertions.assertEquals(100, visited);
+        Verify.assertSize(34, map);
+        map.forEachKey(key -> Assertions.assertEquals(0, key % 3));
+    }
+
+    @Test
+    public void cursor()
+    {
+        UnifiedMapWithCachedHashCodes<String, Integer> map = UnifiedMapWithCachedHashCodes.newWithKeysValues("one", 1, "two", 2, "three", 3);
+        MapCursor<String, Integer> cursor = map.cursor();
+        Verify.assertThrows(IllegalStateException.class, cursor::key);
+        while (cursor.advance())
+        {
+            cursor.setValue(cursor.value() * 10);
+        }
+        Assertions.assertEquals(UnifiedMap.newWithKeysValues("one", 10, "two", 20, "three", 30), map);
+    }
+
+    @Test
+    public void serialization()
+    {
+        UnifiedMapWithCachedHashCodes<Integer, String> map = UnifiedMapWithCachedHashCodes.newWithKeysValues(1, "1", 2, "2", null, "null");
+        UnifiedMapWithCachedHashCodes<Integer, String> deserialized = SerializeTestHelper.serializeDeserialize(map);
+        Assertions.assertEquals(map, deserialized);
+        Assertions.assertEquals("null", deserialized.get(null));
+    }
+
+    private static final class CountingKey
+    {
+        private final int value;
+        private final int hashCode;
+        private int hashCodeCalls;
+
+        private CountingKey(int value)
+        {
+            this(value, value);
+        }
+
+        private CountingKey(int value, int hashCode)
+        {
+            this.value = value;
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof CountingKey && ((CountingKey) o).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            this.hashCodeCalls++;
+            return this.hashCode;
+        }
+    }
+}
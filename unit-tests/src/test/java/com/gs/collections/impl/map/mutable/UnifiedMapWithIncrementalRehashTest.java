@@ -0,0 +1,190 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit test for {@link UnifiedMapWithIncrementalRehash}.
+ */
+public class UnifiedMapWithIncrementalRehashTest extends MutableMapTestCase
+{
+    @Override
+    public <K, V> MutableMap<K, V> newMap()
+    {
+        return UnifiedMapWithIncrementalRehash.newMap();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return UnifiedMapWithIncrementalRehash.newWithKeysValues(key, value);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return UnifiedMapWithIncrementalRehash.newWithKeysValues(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return UnifiedMapWithIncrementalRehash.newWithKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return UnifiedMapWithIncrementalRehash.<K, V>newWithKeysValues(key1, value1, key2, value2, key3, value3)
+                .withKeyValue(key4, value4);
+    }
+
+    @Test
+    public void lookupsDuringMigration()
+    {
+        UnifiedMapWithIncrementalRehash<Integer, Integer> map = UnifiedMapWithIncrementalRehash.newMap(1000);
+        int size = 0;
+        while (!map.isRehashing())
+        {
+            map.put(size, size);
+            size++;
+        }
+        for (int i = 0; i < size; i++)
+        {
+            Assertions.assertEquals(Integer.valueOf(i), map.get(i));
+        }
+
+        Assertions.assertEquals(Integer.valueOf(0), map.put(0, -1));
+        Assertions.assertEquals(Integer.valueOf(1), map.remove(1));
+        Assertions.assertTrue(map.isRehashing());
+        Assertions.assertEquals(Integer.valueOf(-1), map.get(0));
+        Assertions.assertNull(map.get(1));
+        Verify.assertSize(size - 1, map);
+
+        map.put(size, size);
+        Verify.assertSize(size, map);
+        Assertions.assertEquals(Integer.valueOf(size), map.get(size));
+    }
+
+    @Test
+    public void migrationFinishesBeforeNextGrowth()
+    {
+        UnifiedMapWithIncrementalRehash<Integer, Integer> map = UnifiedMapWithIncrementalRehash.newMap();
+        for (int i = 0; i < 100000; i++)
+        {
+            map.put(i, i);
+        }
+        Verify.assertSize(100000, map);
+        for (int i = 0; i < 100000; i++)
+        {
+            Assertions.assertEquals(Integer.valueOf(i), map.get(i));
+        }
+        Assertions.assertEquals(UnifiedMap.newMap(map), map);
+    }
+
+    @Test
+    public void collidingKeys()
+    {
+        UnifiedMapWithIncrementalRehash<CollidingKey, Integer> map = UnifiedMapWithIncrementalRehash.newMap();
+        for (int i = 0; i < 64; i++)
+        {
+            map.put(new CollidingKey(i), i);
+        }
+        for (int i = 0; i < 64; i += 2)
+        {
+            Assertions.assertEquals(Integer.valueOf(i), map.remove(new CollidingKey(i)));
+        }
+        Verify.assertSize(32, map);
+        for (int i = 0; i < 64; i++)
+        {
+            Assertions.assertEquals(i % 2 == 0 ? null : Integer.valueOf(i), map.get(new CollidingKey(i)));
+        }
+    }
+
+    @Test
+    public void iteratorRemoveDuringMigration()
+    {
+        UnifiedMapWithIncrementalRehash<Integer, Integer> map = UnifiedMapWithIncrementalRehash.newMap();
+        int size = 0;
+        while (!map.isRehashing() || size < 100)
+        {
+            map.put(size, size);
+            size++;
+        }
+        int visited = 0;
+        Iterator<Map.Entry<Integer, Integer>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            Map.Entry<Integer, Integer> entry = iterator.next();
+            visited++;
+            if (entry.getKey() % 3 != 0)
+            {
+                iterator.remove();
+            }
+            else
+            {
+                entry.setValue(-entry.getKey());
+            }
+        }
+        Assertions.assertEquals(size, visited);
+        Verify.assertThrows(IllegalStateException.class, iterator::remove);
+        map.forEachKeyValue((key, value) -> {
+            Assertions.assertEquals(0, key % 3);
+            Assertions.assertEquals(-key, value.intValue());
+        });
+        Verify.assertSize((size + 2) / 3, map);
+    }
+
+    @Test
+    public void serialization()
+    {
+        UnifiedMapWithIncrementalRehash<Integer, String> map = UnifiedMapWithIncrementalRehash.newWithKeysValues(1, "1", 2, "2", null, "null");
+        UnifiedMapWithIncrementalRehash<Integer, String> deserialized = SerializeTestHelper.serializeDeserialize(map);
+        Assertions.assertEquals(map, deserialized);
+        Assertions.assertEquals("null", deserialized.get(null));
+    }
+
+    private static final class CollidingKey
+    {
+        private final int value;
+
+        private CollidingKey(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof CollidingKey && ((CollidingKey) o).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 42;
+        }
+    }
+}
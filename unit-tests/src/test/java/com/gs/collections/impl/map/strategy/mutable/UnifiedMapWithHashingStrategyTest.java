@@ -25,6 +25,7 @@ import java.util.Set;
 import com.gs.collections.api.block.HashingStrategy;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.map.MapCursor;
 import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.factory.Functions;
@@ -891,6 +892,31 @@ public class UnifiedMapWithHashingStrategyTest extends UnifiedMapTestCase
         Assertions.assertSame(INTEGER_HASHING_STRATEGY, map.hashingStrategy());
     }
 
+    @Test
+    public void cursor()
+    {
+        UnifiedMapWithHashingStrategy<Integer, Integer> map = UnifiedMapWithHashingStrategy.newMap(INTEGER_HASHING_STRATEGY);
+        MORE_COLLISIONS.forEach(Procedures.cast(each -> map.put(each, each)));
+        map.put(null, 0);
+        map.put(1000, 1000);
+
+        MapCursor<Integer, Integer> cursor = map.cursor();
+        Verify.assertThrows(IllegalStateException.class, cursor::key);
+        MutableMap<Integer, Integer> seen = UnifiedMap.newMap();
+        while (cursor.advance())
+        {
+            Assertions.assertEquals(map.get(cursor.key()), cursor.value());
+            seen.put(cursor.key(), cursor.value());
+            cursor.setValue(-1);
+        }
+        Assertions.assertFalse(cursor.advance());
+        Verify.assertThrows(IllegalStateException.class, cursor::value);
+        Verify.assertSize(MORE_COLLISIONS.size() + 2, seen);
+        Verify.assertContainsKey(null, seen);
+        Assertions.assertTrue(map.allSatisfy(value -> value == -1));
+        Assertions.assertFalse(UnifiedMapWithHashingStrategy.newMap(INTEGER_HASHING_STRATEGY).cursor().advance());
+    }
+
     @Override
     protected UnifiedMapWithHashingStrategy<Integer, Integer> mapWithCollisionsOfSize(int size)
     {
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.set.Pool;
+import com.gs.collections.impl.list.mutable.FastList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Abstract JUnit test for the weak {@link Pool} implementations.
+ */
+public abstract class AbstractWeakPoolTestCase
+{
+    protected abstract <T> Pool<T> newPool();
+
+    @Test
+    public void putAndGet()
+    {
+        Pool<String> pool = this.newPool();
+        String first = new String("value");
+        String second = new String("value");
+        Assertions.assertNull(pool.get(first));
+        Assertions.assertSame(first, pool.put(first));
+        Assertions.assertSame(first, pool.put(second));
+        Assertions.assertSame(first, pool.get(second));
+        Assertions.assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void removeFromPool()
+    {
+        Pool<String> pool = this.newPool();
+        String first = new String("value");
+        pool.put(first);
+        Assertions.assertSame(first, pool.removeFromPool(new String("value")));
+        Assertions.assertNull(pool.removeFromPool(first));
+        Assertions.assertNull(pool.get(first));
+        Assertions.assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void clear()
+    {
+        Pool<String> pool = this.newPool();
+        MutableList<String> retained = FastList.newList();
+        for (int i = 0; i < 100; i++)
+        {
+            retained.add(pool.put(new String(String.valueOf(i))));
+        }
+        Assertions.assertEquals(100, pool.size());
+        pool.clear();
+        Assertions.assertEquals(0, pool.size());
+        Assertions.assertNull(pool.get(retained.getFirst()));
+    }
+
+    @Test
+    public void growsAndKeepsReachableObjects()
+    {
+        Pool<String> pool = this.newPool();
+        MutableList<String> retained = FastList.newList();
+        for (int i = 0; i < 10000; i++)
+        {
+            retained.add(pool.put(new String(String.valueOf(i))));
+        }
+        System.gc();
+        for (int i = 0; i < 10000; i++)
+        {
+            Assertions.assertSame(retained.get(i), pool.get(String.valueOf(i)));
+            Assertions.assertSame(retained.get(i), pool.put(new String(String.valueOf(i))));
+        }
+        Assertions.assertEquals(10000, pool.size());
+    }
+
+    @Test
+    public void unreachableObjectsAreExpunged() throws InterruptedException
+    {
+        Pool<Object> pool = this.newPool();
+        Object retained = new Object();
+        pool.put(retained);
+        ReferenceQueue<Object> collected = new ReferenceQueue<>();
+        MutableList<WeakReference<Object>> probes = FastList.newList();
+        for (int i = 0; i < 1000; i++)
+        {
+            Object each = new Object();
+            pool.put(each);
+            probes.add(new WeakReference<>(each, collected));
+        }
+
+        // All weak references to an object are cleared at once, so the probes show when the pool's entries are cleared.
+        // The test depends on the garbage collector and is skipped when System.gc() does not collect, e.g. with -XX:+DisableExplicitGC
+        Assumptions.assumeTrue(
+                AbstractWeakPoolTestCase.awaitCollection(collected, probes.size()),
+                "the garbage collector did not clear the unreachable objects");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10L);
+        while (pool.size() > 1 && System.nanoTime() < deadline)
+        {
+            // The pool's own references may be enqueued slightly after the probes
+            Thread.sleep(10L);
+        }
+        Assertions.assertEquals(1, pool.size());
+        Assertions.assertSame(retained, pool.get(retained));
+        Assertions.assertTrue(probes.allSatisfy(probe -> probe.get() == null));
+    }
+
+    /**
+     * Requests garbage collection until count references have been enqueued on queue, for at most 20 attempts of 100ms.
+     */
+    private static boolean awaitCollection(ReferenceQueue<Object> queue, int count) throws InterruptedException
+    {
+        int remaining = count;
+        for (int attempt = 0; attempt < 20 && remaining > 0; attempt++)
+        {
+            System.gc();
+            Reference<?> reference = queue.remove(100L);
+            while (reference != null)
+            {
+                remaining--;
+                reference = queue.poll();
+            }
+        }
+        return remaining == 0;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * JUnit test for {@link ConcurrentHashSet}.
+ */
+public class ConcurrentHashSetTest extends AbstractMutableSetTestCase
+{
+    @Override
+    protected <T> ConcurrentHashSet<T> newWith(T... littleElements)
+    {
+        return ConcurrentHashSet.newSetWith(littleElements);
+    }
+
+    @Override
+    @Test
+    public void asSynchronized()
+    {
+        Verify.assertInstanceOf(SynchronizedMutableSet.class, this.newWith().asSynchronized());
+    }
+
+    @Override
+    @Test
+    public void asUnmodifiable()
+    {
+        Verify.assertInstanceOf(UnmodifiableMutableSet.class, this.newWith().asUnmodifiable());
+    }
+
+    @Override
+    @Test
+    public void removeIf()
+    {
+        MutableSet<Integer> objects1 = this.newWith(1, 2, 3);
+        assertThrows(NullPointerException.class, () -> objects1.add(null));
+        assertThrows(NullPointerException.class, () -> objects1.remove(null));
+        Assertions.assertTrue(objects1.removeIf(Predicates.greaterThan(1)));
+        Verify.assertSize(1, objects1);
+        Verify.assertContains(1, objects1);
+
+        MutableSet<Integer> objects2 = this.newWith(3, 4, 5);
+        Assertions.assertTrue(objects2.removeIf(Predicates.equal(3)));
+        Assertions.assertFalse(objects2.removeIf(Predicates.equal(6)));
+
+        MutableSet<Integer> chain = this.newWith(COLLISION_1, COLLISION_2, COLLISION_3, COLLISION_4);
+        Assertions.assertTrue(chain.remove(COLLISION_3));
+        Assertions.assertFalse(chain.remove(COLLISION_3));
+        Assertions.assertFalse(chain.remove(COLLISION_5));
+        Assertions.assertEquals(UnifiedSet.newSetWith(COLLISION_1, COLLISION_2, COLLISION_4), chain);
+    }
+
+    @Override
+    @Test
+    public void min_null_safe()
+    {
+        assertThrows(NullPointerException.class, () -> {
+            super.min_null_safe();
+        });
+    }
+
+    @Override
+    @Test
+    public void max_null_safe()
+    {
+        assertThrows(NullPointerException.class, () -> {
+            super.max_null_safe();
+        });
+    }
+
+    @Test
+    public void addRemoveContains()
+    {
+        ConcurrentHashSet<Integer> set = ConcurrentHashSet.newSetWith(1, 2, 3);
+        Verify.assertSize(3, set);
+        Assertions.assertFalse(set.add(2));
+        Assertions.assertTrue(set.add(4));
+        Assertions.assertTrue(set.remove(1));
+        Assertions.assertFalse(set.remove(1));
+        Verify.assertContainsAll(set, 2, 3, 4);
+        Assertions.assertEquals(UnifiedSet.newSetWith(2, 3, 4), set);
+        Verify.assertEqualsAndHashCode(UnifiedSet.newSetWith(2, 3, 4), set);
+        set.clear();
+        Verify.assertEmpty(set);
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        ConcurrentHashSet<Integer> set = ConcurrentHashSet.newSet(Interval.oneTo(100));
+        Iterator<Integer> iterator = set.iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next() % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Verify.assertSize(50, set);
+        Verify.assertAllSatisfy(set, each -> each % 2 == 1);
+    }
+
+    @Test
+    public void pool()
+    {
+        ConcurrentHashSet<String> pool = ConcurrentHashSet.newSet();
+        String first = new String("value");
+        String second = new String("value");
+        Assertions.assertNull(pool.get(first));
+        Assertions.assertSame(first, pool.put(first));
+        Assertions.assertSame(first, pool.put(second));
+        Assertions.assertSame(first, pool.get(second));
+        Assertions.assertSame(first, pool.removeFromPool(second));
+        Assertions.assertNull(pool.removeFromPool(second));
+        Verify.assertEmpty(pool);
+    }
+
+    @Test
+    public void concurrentPutsReturnOneInstance() throws Exception
+    {
+        ConcurrentHashSet<String> pool = ConcurrentHashSet.newSet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            MutableList<Future<MutableList<String>>> futures = FastList.newList();
+            for (int thread = 0; thread < 4; thread++)
+            {
+                futures.add(executor.submit(() -> {
+                    MutableList<String> interned = FastList.newList();
+                    for (int i = 0; i < 10000; i++)
+                    {
+                        interned.add(pool.put(new String("key" + i)));
+                    }
+                    return interned;
+                }));
+            }
+            MutableList<String> first = futures.getFirst().get();
+            for (Future<MutableList<String>> future : futures)
+            {
+                MutableList<String> interned = future.get();
+                for (int i = 0; i < 10000; i++)
+                {
+                    Assertions.assertSame(first.get(i), interned.get(i));
+                }
+            }
+            Verify.assertSize(10000, pool);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void serialization()
+    {
+        ConcurrentHashSet<Integer> set = ConcurrentHashSet.newSetWith(1, 2, 3);
+        ConcurrentHashSet<Integer> deserialized = SerializeTestHelper.serializeDeserialize(set);
+        Assertions.assertEquals(set, deserialized);
+    }
+}
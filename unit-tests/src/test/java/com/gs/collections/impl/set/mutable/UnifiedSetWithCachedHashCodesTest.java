@@ -0,0 +1,161 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable;
+
+import java.util.Iterator;
+
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit test for {@link UnifiedSetWithCachedHashCodes}.
+ */
+public class UnifiedSetWithCachedHashCodesTest extends AbstractMutableSetTestCase
+{
+    @Override
+    protected <T> UnifiedSetWithCachedHashCodes<T> newWith(T... littleElements)
+    {
+        return UnifiedSetWithCachedHashCodes.newSetWith(littleElements);
+    }
+
+    @Override
+    @Test
+    public void asSynchronized()
+    {
+        Verify.assertInstanceOf(SynchronizedMutableSet.class, this.newWith().asSynchronized());
+    }
+
+    @Override
+    @Test
+    public void asUnmodifiable()
+    {
+        Verify.assertInstanceOf(UnmodifiableMutableSet.class, this.newWith().asUnmodifiable());
+    }
+
+    @Test
+    public void growingDoesNotCallHashCode()
+    {
+        UnifiedSetWithCachedHashCodes<CountingKey> set = UnifiedSetWithCachedHashCodes.newSet(1);
+        for (int i = 0; i < 1000; i++)
+        {
+            set.add(new CountingKey(i, i));
+        }
+        Verify.assertSize(1000, set);
+        set.each(key -> Assertions.assertEquals(1, key.hashCodeCalls));
+
+        UnifiedSetWithCachedHashCodes<CountingKey> copy = set.clone();
+        copy.each(key -> Assertions.assertEquals(1, key.hashCodeCalls));
+        Assertions.assertEquals(set, copy);
+    }
+
+    @Test
+    public void collidingElements()
+    {
+        UnifiedSetWithCachedHashCodes<CountingKey> set = UnifiedSetWithCachedHashCodes.newSet();
+        for (int i = 0; i < 64; i++)
+        {
+            Assertions.assertTrue(set.add(new CountingKey(i, 42)));
+        }
+        Assertions.assertFalse(set.add(new CountingKey(7, 42)));
+        for (int i = 0; i < 64; i += 2)
+        {
+            Assertions.assertTrue(set.remove(new CountingKey(i, 42)));
+        }
+        Verify.assertSize(32, set);
+        for (int i = 0; i < 64; i++)
+        {
+            Assertions.assertEquals(i % 2 != 0, set.contains(new CountingKey(i, 42)));
+        }
+    }
+
+    @Test
+    public void iteratorRemoveVisitsEveryElement()
+    {
+        UnifiedSetWithCachedHashCodes<Integer> set = UnifiedSetWithCachedHashCodes.newSet();
+        for (int i = 0; i < 100; i++)
+        {
+            set.add(i);
+        }
+        int visited = 0;
+        Iterator<Integer> iterator = set.iterator();
+        while (iterator.hasNext())
+        {
+            Integer each = iterator.next();
+            visited++;
+            if (each % 3 != 0)
+            {
+                iterator.remove();
+            }
+        }
+        Assertions.assertEquals(100, visited);
+        Verify.assertSize(34, set);
+        Verify.assertThrows(IllegalStateException.class, iterator::remove);
+    }
+
+    @Test
+    public void pool()
+    {
+        UnifiedSetWithCachedHashCodes<String> pool = UnifiedSetWithCachedHashCodes.newSet();
+        String first = new String("value");
+        String second = new String("value");
+        Assertions.assertNull(pool.get(first));
+        Assertions.assertSame(first, pool.put(first));
+        Assertions.assertSame(first, pool.put(second));
+        Assertions.assertSame(first, pool.get(second));
+        Assertions.assertSame(first, pool.removeFromPool(second));
+        Assertions.assertNull(pool.removeFromPool(second));
+        Verify.assertEmpty(pool);
+    }
+
+    @Test
+    public void serialization()
+    {
+        UnifiedSetWithCachedHashCodes<Integer> set = UnifiedSetWithCachedHashCodes.newSetWith(1, 2, 3, null);
+        UnifiedSetWithCachedHashCodes<Integer> deserialized = SerializeTestHelper.serializeDeserialize(set);
+        Verify.assertSize(4, deserialized);
+        Verify.assertContains(null, deserialized);
+        Assertions.assertEquals(set, deserialized);
+    }
+
+    private static final class CountingKey
+    {
+        private final int value;
+        private final int hashCode;
+        private int hashCodeCalls;
+
+        private CountingKey(int value, int hashCode)
+        {
+            this.value = value;
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof CountingKey && ((CountingKey) o).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            this.hashCodeCalls++;
+            return this.hashCode;
+        }
+    }
+}
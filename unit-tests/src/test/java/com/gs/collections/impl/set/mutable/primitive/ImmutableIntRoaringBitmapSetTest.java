@@ -0,0 +1,62 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable.primitive;
+
+import com.gs.collections.api.set.primitive.ImmutableIntSet;
+import com.gs.collections.api.set.primitive.MutableIntSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for the immutable set returned by {@link IntRoaringBitmapSet#toImmutable()}.
+ */
+public class ImmutableIntRoaringBitmapSetTest extends AbstractImmutableIntHashSetTestCase
+{
+    @Override
+    protected ImmutableIntSet classUnderTest()
+    {
+        return IntRoaringBitmapSet.newSetWith(1, 2, 3).toImmutable();
+    }
+
+    @Override
+    protected ImmutableIntSet newWith(int... elements)
+    {
+        return IntRoaringBitmapSet.newSetWith(elements).toImmutable();
+    }
+
+    @Override
+    protected MutableIntSet newMutableCollectionWith(int... elements)
+    {
+        return IntRoaringBitmapSet.newSetWith(elements);
+    }
+
+    @Test
+    public void newWithDoesNotChangeOriginal()
+    {
+        ImmutableIntSet set = this.newWith(70000, -5);
+        ImmutableIntSet added = set.newWith(3);
+        Assert.assertArrayEquals(new int[]{-5, 70000}, set.toArray());
+        Assert.assertArrayEquals(new int[]{-5, 3, 70000}, added.toArray());
+        Assert.assertArrayEquals(new int[]{-5}, added.newWithoutAll(IntHashSet.newSetWith(3, 70000)).toArray());
+    }
+
+    @Test
+    public void emptyIsShared()
+    {
+        Assert.assertSame(new IntRoaringBitmapSet().toImmutable(), this.newWith(1).newWithout(1));
+    }
+}
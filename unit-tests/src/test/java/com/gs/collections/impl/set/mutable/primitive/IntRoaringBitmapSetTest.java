@@ -0,0 +1,175 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable.primitive;
+
+import com.gs.collections.api.iterator.MutableIntIterator;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link IntRoaringBitmapSet}.
+ */
+public class IntRoaringBitmapSetTest extends AbstractIntSetTestCase
+{
+    @Override
+    protected final IntRoaringBitmapSet classUnderTest()
+    {
+        return IntRoaringBitmapSet.newSetWith(1, 2, 3);
+    }
+
+    @Override
+    protected IntRoaringBitmapSet newWith(int... elements)
+    {
+        return IntRoaringBitmapSet.newSetWith(elements);
+    }
+
+    private static IntRoaringBitmapSet range(int fromInclusive, int toExclusive, int step)
+    {
+        IntRoaringBitmapSet set = new IntRoaringBitmapSet();
+        for (int i = fromInclusive; i < toExclusive; i += step)
+        {
+            set.add(i);
+        }
+        return set;
+    }
+
+    private static IntHashSet hashRange(int fromInclusive, int toExclusive, int step)
+    {
+        IntHashSet set = new IntHashSet();
+        for (int i = fromInclusive; i < toExclusive; i += step)
+        {
+            set.add(i);
+        }
+        return set;
+    }
+
+    @Override
+    @Test
+    public void newCollection()
+    {
+        super.newCollection();
+        IntRoaringBitmapSet set = IntRoaringBitmapSet.newSetWith(0, 1, 31, 65536, -1, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        Assert.assertEquals(set, IntRoaringBitmapSet.newSet(IntArrayList.newListWith(0, 0, 1, 31, 65536, -1, Integer.MIN_VALUE, Integer.MAX_VALUE)));
+        Assert.assertEquals(set, IntRoaringBitmapSet.newSet(set));
+        Assert.assertEquals(set, IntHashSet.newSet(set));
+    }
+
+    @Test
+    public void iterationIsSorted()
+    {
+        IntRoaringBitmapSet set = this.newWith(70000, -5, 31, Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -70000);
+        Assert.assertArrayEquals(new int[]{Integer.MIN_VALUE, -70000, -5, 0, 31, 70000, Integer.MAX_VALUE}, set.toArray());
+        Assert.assertEquals("[-2147483648, -70000, -5, 0, 31, 70000, 2147483647]", set.toString());
+        Assert.assertEquals(Integer.MIN_VALUE, set.min());
+        Assert.assertEquals(Integer.MAX_VALUE, set.max());
+    }
+
+    @Test
+    public void denseContainers()
+    {
+        IntRoaringBitmapSet set = range(0, 20000, 1);
+        IntHashSet expected = hashRange(0, 20000, 1);
+        Verify.assertSize(20000, set);
+        Assert.assertEquals(expected, set);
+        Assert.assertEquals(set, expected);
+        Assert.assertEquals(expected.hashCode(), set.hashCode());
+        Assert.assertEquals(expected.sum(), set.sum());
+        Assert.assertEquals(19999, set.max());
+        Assert.assertEquals(10000, set.count(value -> value % 2 == 0));
+
+        for (int i = 0; i < 20000; i += 2)
+        {
+            Assert.assertTrue(set.remove(i));
+            expected.remove(i);
+        }
+        Assert.assertFalse(set.remove(0));
+        Assert.assertEquals(expected, set);
+        Assert.assertEquals(expected.sum(), set.sum());
+        Assert.assertArrayEquals(expected.toSortedArray(), set.toArray());
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+    }
+
+    @Test
+    public void iteratorRemoveAcrossContainers()
+    {
+        IntRoaringBitmapSet set = range(0, 200000, 3);
+        MutableIntIterator iterator = set.intIterator();
+        int count = 0;
+        while (iterator.hasNext())
+        {
+            int value = iterator.next();
+            if (value < 131072)
+            {
+                iterator.remove();
+            }
+            count++;
+        }
+        Assert.assertEquals(66667, count);
+        Assert.assertEquals(hashRange(131073, 200000, 3), set);
+    }
+
+    @Test
+    public void bulkOperationsBetweenBitmaps()
+    {
+        IntRoaringBitmapSet dense = range(-100000, 100000, 1);
+        IntRoaringBitmapSet sparse = range(-300000, 300000, 7);
+        IntHashSet hashDense = hashRange(-100000, 100000, 1);
+        IntHashSet hashSparse = hashRange(-300000, 300000, 7);
+        IntHashSet expectedIntersection = hashSparse.select(value -> value >= -100000 && value < 100000);
+
+        IntRoaringBitmapSet union = dense.union(sparse);
+        Assert.assertEquals(IntHashSet.newSet(hashDense).withAll(hashSparse), union);
+        IntRoaringBitmapSet intersection = dense.intersect(sparse);
+        Assert.assertEquals(expectedIntersection, intersection);
+        IntRoaringBitmapSet difference = sparse.difference(dense);
+        Assert.assertEquals(IntHashSet.newSet(hashSparse).withoutAll(hashDense), difference);
+        Assert.assertEquals(hashDense, dense);
+        Assert.assertEquals(hashSparse, sparse);
+
+        Assert.assertTrue(dense.retainAll(sparse));
+        Assert.assertEquals(intersection, dense);
+        Assert.assertTrue(dense.addAll(sparse));
+        Assert.assertEquals(sparse, dense);
+        Assert.assertTrue(dense.removeAll(sparse));
+        Verify.assertEmpty(dense);
+        Assert.assertFalse(dense.removeAll(sparse));
+        Assert.assertFalse(sparse.addAll(IntRoaringBitmapSet.newSet(sparse)));
+    }
+
+    @Test
+    public void bulkOperationsWithHashSet()
+    {
+        IntHashSet hashDense = hashRange(-100000, 100000, 1);
+        IntHashSet hashSparse = hashRange(-300000, 300000, 7);
+        IntHashSet expectedIntersection = hashSparse.select(value -> value >= -100000 && value < 100000);
+
+        Assert.assertEquals(expectedIntersection, range(-100000, 100000, 1).intersect(hashSparse));
+        Assert.assertEquals(IntHashSet.newSet(hashSparse).withoutAll(hashDense), range(-300000, 300000, 7).difference(hashDense));
+
+        IntRoaringBitmapSet set = range(-100000, 100000, 1);
+        Assert.assertTrue(set.retainAll(hashSparse));
+        Assert.assertEquals(expectedIntersection, set);
+        Assert.assertTrue(set.addAll(hashDense));
+        Assert.assertEquals(hashDense, set);
+        Assert.assertTrue(set.removeAll(hashSparse));
+        Assert.assertEquals(IntHashSet.newSet(hashDense).withoutAll(hashSparse), set);
+        Assert.assertTrue(set.retainAll(IntHashSet.newSetWith(1, 2, 6)));
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2), set);
+    }
+}